@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -11,6 +12,22 @@ configurations {
     }
 }
 
+// load test source set (src/loadTest/java) : 애플리케이션 코드와 의존성을 그대로 사용한다.
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+configurations {
+    named("loadTestImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("loadTestRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
+}
+
 allprojects {
     group = property("app.group").toString()
 }
@@ -23,10 +40,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadTestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -49,4 +69,22 @@ tasks.getByName("jar") {
 tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
+    // Java 21 에서 가상 스레드가 carrier 에 고정(pinning)되면 스택을 출력한다.
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
+// benchmark tasks (./gradlew jmh -Pjmh.threads=8, 결과 : build/results/jmh/results.json)
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider().get())
+    threads.set(providers.gradleProperty("jmh.threads").map(String::toInt).orElse(4))
+    resultFormat.set("JSON")
+}
+
+// load test tasks (./gradlew loadTest -Pload.args="--rate=500 --duration=60", 결과 : build/reports/load-test)
+tasks.register<JavaExec>("loadTest") {
+    description = "PointController 에 실제 HTTP 부하를 걸고 지연 시간 분포와 오류율을 기록한다."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.loadtest.LoadTestRunner")
+    args(providers.gradleProperty("load.args").map { it.split(" ").filter(String::isNotBlank) }.getOrElse(emptyList()))
 }
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.config.BalanceStoreProperties;
+import io.hhplus.tdd.point.config.BalanceWalProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.BalanceStoreType;
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import io.hhplus.tdd.point.repository.impl.DurableUserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.hhplus.tdd.point.repository.wal.BalanceSnapshotStore;
+import io.hhplus.tdd.point.repository.wal.BalanceWriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * DURABLE 잔고 저장소 시작(복구) 시간 측정
+ * - users 명이 담긴 스냅샷 + 스냅샷 이후 로그 tail 건을 미리 만들어 두고, 저장소를 여는 데 걸리는 시간을 잰다.
+ * - 복구 후 스냅샷이 다시 만들어지지 않도록 close 하지 않는다. (매 반복 같은 양의 로그를 재적용)
+ * - 1,000만 명은 off-heap 기준 약 540MB(맵) + 320MB(스냅샷 파일)가 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-XX:MaxDirectMemorySize=3g"})
+@Threads(1)
+public class BalanceRecoveryBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int users;
+
+    @Param({"100000"})
+    public int tail;
+
+    private Path directory;
+    private DurableUserPointRepository recovered;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("balance-recovery");
+        long now = System.currentTimeMillis();
+
+        LongPointMap balances = new LongPointMap(64, users * 2, true);
+        for (long id = 1; id <= users; id++) {
+            balances.put(id, id % 10_000_000, now, 1);
+        }
+        new BalanceSnapshotStore(directory).write(0, balances);
+
+        try (BalanceWriteAheadLog wal = new BalanceWriteAheadLog(directory, WalSyncMode.INTERVAL, 0)) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < tail; i++) {
+                long id = random.nextLong(1, users + 1L);
+                wal.append(new UserPoint(id, i, now, 2 + i));
+            }
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        recovered = new DurableUserPointRepository(
+                new BalanceStoreProperties(BalanceStoreType.DURABLE, true, 64, 1 << 16),
+                new BalanceWalProperties(directory.toString(), WalSyncMode.INTERVAL, 60_000, 3_600_000, Long.MAX_VALUE));
+        return recovered.recoveryMillis();
+    }
+
+    @TearDown(Level.Iteration)
+    public void release() {
+        recovered = null;
+        System.gc();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔고 저장 방식별 메모리 사용량과 조회 비용 비교
+ * - store : table (UserPointTable 과 같은 HashMap<Long, UserPoint>) / primitive (LongPointMap heap) / offheap (LongPointMap direct)
+ * - footprint : users 명의 잔고를 저장한 뒤 GC 후 남은 heap/direct 메모리를 유저당 byte 로 보고한다. (시간은 참고용)
+ * - lookup : users 명이 저장된 상태에서 임의 유저 조회 처리량
+ * - footprint 는 스레드 1개 기준으로 측정하므로 -Pjmh.threads=1 로 실행한다. (1,000만 명 이상은 -Xmx 도 늘린다)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@Threads(1)
+public class BalanceStoreFootprintBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Stores {
+
+        @Param({"table", "primitive", "offheap"})
+        public String store;
+
+        @Param({"1000000"})
+        public int users;
+
+        Map<Long, UserPoint> table;
+        LongPointMap balances;
+
+        Object create() {
+            if ("table".equals(store)) {
+                return new HashMap<Long, UserPoint>();
+            }
+            return new LongPointMap(64, 1 << 16, "offheap".equals(store));
+        }
+
+        @SuppressWarnings("unchecked")
+        void populate(Object target) {
+            long now = System.currentTimeMillis();
+            for (long id = 1; id <= users; id++) {
+                if (target instanceof Map<?, ?> map) {
+                    ((Map<Long, UserPoint>) map).put(id, new UserPoint(id, id, now));
+                } else {
+                    ((LongPointMap) target).put(id, id, now, 0);
+                }
+            }
+        }
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // lookup 측정용으로 미리 채워둔다.
+            Object target = create();
+            populate(target);
+            if (target instanceof LongPointMap map) {
+                balances = map;
+            } else {
+                @SuppressWarnings("unchecked")
+                Map<Long, UserPoint> map = (Map<Long, UserPoint>) target;
+                table = map;
+            }
+        }
+    }
+
+    /**
+     * 유저당 메모리 사용량 (byte)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double heapBytesPerUser;
+        public double directBytesPerUser;
+    }
+
+    // EVENTS 카운터는 측정 반복 횟수만큼 합산되므로 1회만 측정한다.
+    @Benchmark
+    @Measurement(iterations = 1)
+    public Object footprint(Stores stores, Footprint footprint) throws InterruptedException {
+        long heapBefore = usedHeap();
+        long directBefore = usedDirect();
+
+        Object target = stores.create();
+        stores.populate(target);
+
+        footprint.heapBytesPerUser = (double) (usedHeap() - heapBefore) / stores.users;
+        footprint.directBytesPerUser = (double) (usedDirect() - directBefore) / stores.users;
+        return target;
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+        final SplittableRandom random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void lookup(Stores stores, Keys keys, Blackhole blackhole) {
+        long id = keys.random.nextLong(1, stores.users + 1L);
+        blackhole.consume(stores.table != null ? stores.table.get(id) : stores.balances.get(id));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirect() throws InterruptedException {
+        // direct buffer 는 GC 이후 Cleaner 스레드가 해제하므로 잠시 기다린다.
+        System.gc();
+        TimeUnit.MILLISECONDS.sleep(200);
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.ColumnarPointHistoryRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 히스토리 저장 방식별 메모리 사용량과 전체 조회 비용 비교
+ * - store : table (PointHistoryTable 목록 + 유저별 PointHistory 인덱스, throttle 제외) / columnar (ColumnarPointHistoryRepository)
+ * - footprint : entries 건을 저장한 뒤 GC 후 남은 heap 을 히스토리당 byte 로 보고한다. (시간은 참고용)
+ * - scan : entries 건이 저장된 상태에서 모든 유저의 히스토리를 streamByUserId 로 읽어 금액을 더하는 시간
+ * - footprint 는 스레드 1개 기준으로 측정하므로 -Pjmh.threads=1 로 실행한다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Threads(1)
+public class HistoryStoreFootprintBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Stores {
+
+        @Param({"table", "columnar"})
+        public String store;
+
+        @Param({"1000000"})
+        public int entries;
+
+        @Param({"10000"})
+        public int users;
+
+        PointHistoryRepository repository;
+
+        PointHistoryRepository create() {
+            return "table".equals(store) ? new TableHistoryRepository() : new ColumnarPointHistoryRepository();
+        }
+
+        void populate(PointHistoryRepository target) {
+            SplittableRandom random = new SplittableRandom(42);
+            long now = System.currentTimeMillis();
+            TransactionType[] types = TransactionType.values();
+            for (int i = 0; i < entries; i++) {
+                target.save(PointHistory.makeEntity(random.nextLong(1, users + 1L), random.nextLong(1, 100000),
+                        types[random.nextInt(types.length)], now + i));
+            }
+        }
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // scan 측정용으로 미리 채워둔다.
+            repository = create();
+            populate(repository);
+        }
+    }
+
+    /**
+     * 히스토리당 메모리 사용량 (byte)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double heapBytesPerEntry;
+    }
+
+    // EVENTS 카운터는 측정 반복 횟수만큼 합산되므로 1회만 측정한다.
+    @Benchmark
+    @Measurement(iterations = 1)
+    public Object footprint(Stores stores, Footprint footprint) {
+        long heapBefore = usedHeap();
+
+        PointHistoryRepository target = stores.create();
+        stores.populate(target);
+
+        footprint.heapBytesPerEntry = (double) (usedHeap() - heapBefore) / stores.entries;
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public long scan(Stores stores) {
+        long sum = 0;
+        for (long userId = 1; userId <= stores.users; userId++) {
+            try (Stream<PointHistory> histories = stores.repository.streamByUserId(userId, 0)) {
+                sum += histories.mapToLong(PointHistory::amount).sum();
+            }
+        }
+        return sum;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 현재 TABLE 저장소와 같은 구조 (PointHistoryTable 의 전체 목록 + PointHistoryRepositoryImpl 의 유저별 인덱스)
+     */
+    static final class TableHistoryRepository extends InMemoryPointHistoryRepository {
+
+        private final List<PointHistory> table = new ArrayList<>();
+
+        @Override
+        public PointHistory save(PointHistory pointHistory) {
+            PointHistory saved = super.save(pointHistory);
+            synchronized (table) {
+                table.add(saved);
+            }
+            return saved;
+        }
+    }
+}
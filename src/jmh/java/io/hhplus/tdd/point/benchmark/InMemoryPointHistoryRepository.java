@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointHistoryTable 의 throttle 을 제외한 벤치마크용 히스토리 저장소
+ */
+class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final ConcurrentMap<Long, List<PointHistory>> table = new ConcurrentHashMap<>();
+
+    @Override
+    public PointHistory save(PointHistory pointHistory) {
+        PointHistory saved = new PointHistory(cursor.getAndIncrement(), pointHistory.userId(), pointHistory.amount(),
+                pointHistory.type(), pointHistory.updateMillis());
+        List<PointHistory> histories = table.computeIfAbsent(saved.userId(), id -> new ArrayList<>());
+        synchronized (histories) {
+            histories.add(saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long id) {
+        List<PointHistory> histories = table.get(id);
+        if (histories == null) {
+            return List.of();
+        }
+        synchronized (histories) {
+            return List.copyOf(histories);
+        }
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return List.copyOf(table.keySet());
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * UserPointTable 의 throttle 을 제외한 벤치마크용 잔고 저장소
+ */
+class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final ConcurrentMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis(), userPoint.version());
+        table.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<UserPoint> findById(Long id) {
+        return Optional.of(table.getOrDefault(id, UserPoint.empty(id)));
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped) {
+        UserPoint next = current.changePoint(point);
+        boolean[] swapped = {false};
+        // onSwapped 를 compute 안에서 호출해, 같은 유저의 다음 변경보다 먼저 끝나게 한다.
+        table.compute(current.id(), (id, latest) -> {
+            long version = latest == null ? 0 : latest.version();
+            if (version != current.version()) {
+                return latest;
+            }
+            onSwapped.accept(next);
+            swapped[0] = true;
+            return next;
+        });
+        return swapped[0] ? Optional.of(next) : Optional.empty();
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.service.PointServiceFixture;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointServiceImpl 의 락/컬렉션 오버헤드 측정
+ * - 테이블 throttle 은 InMemory 저장소로 대체한다.
+ * - 스레드 수는 -Pjmh.threads 로 바꿔 가며 실행한다.
+ * - distribution : hot (모든 요청이 1명에게 몰림) / uniform (users 명에게 고르게 분산)
+ * - PARTITIONED 는 CPU 코어 수만큼 파티션 스레드를 추가로 띄우므로, 코어 수보다 적은 jmh 스레드로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = 5000000L;
+
+    @Param({"LOCK", "COMBINING", "OPTIMISTIC", "PARTITIONED"})
+    public String mode;
+
+    @Param({"hot", "uniform"})
+    public String distribution;
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"10", "1000"})
+    public int historySize;
+
+    private PointServiceImpl pointService;
+    private PointPartitionExecutor pointPartitionExecutor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        for (long id = 1; id <= users; id++) {
+            userPointRepository.save(new UserPoint(id, INITIAL_POINT, System.currentTimeMillis()));
+            for (int i = 0; i < historySize; i++) {
+                pointHistoryRepository.save(PointHistory.makeEntity(id, 1, TransactionType.CHARGE, System.currentTimeMillis()));
+            }
+        }
+
+        PointConcurrencyMode concurrencyMode = switch (mode) {
+            case "OPTIMISTIC" -> PointConcurrencyMode.OPTIMISTIC;
+            case "PARTITIONED" -> PointConcurrencyMode.PARTITIONED;
+            default -> PointConcurrencyMode.LOCK;
+        };
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(
+                concurrencyMode, "COMBINING".equals(mode), 64, 1000, 1, 1000);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,
+                new HistoryWriteBehindProperties(false, 0, 0, 0, 0));
+        pointPartitionExecutor = new PointPartitionExecutor(new PointPartitionProperties(0, 1024, 100, 1000), properties);
+        pointPartitionExecutor.start();
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .partitionExecutor(pointPartitionExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pointPartitionExecutor.shutdown();
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        long next(PointServiceBenchmark benchmark) {
+            return "hot".equals(benchmark.distribution) ? 1L : 1L + random.nextInt(benchmark.users);
+        }
+    }
+
+    @Benchmark
+    public Object chargePoint(Keys keys) {
+        try {
+            return pointService.chargePoint(new UserPointCommand(keys.next(this), 1L));
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object usePoint(Keys keys) {
+        try {
+            return pointService.usePoint(new UserPointCommand(keys.next(this), 1L));
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public UserPoint getPoint(Keys keys) {
+        return pointService.getPoint(new UserIdCommand(keys.next(this)));
+    }
+
+    @Benchmark
+    public List<PointHistory> getHistory(Keys keys) {
+        return pointService.getHistory(new UserIdCommand(keys.next(this)));
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * open-loop 부하 생성기
+ * - 응답을 기다리지 않고 rate 에 맞춘 예정 시각마다 요청을 보낸다. (서버가 느려져도 요청 간격이 늘어나지 않는다)
+ * - 지연 시간은 실제로 보낸 시각이 아니라 예정 시각부터 잰다. 생성기가 밀려 늦게 보낸 시간도 지연에 포함되므로
+ *   서버가 멈춘 동안의 지연이 빠지는 문제(coordinated omission)를 피한다.
+ * - 요청 생성(종류, 유저, 금액)은 스레드 하나에서 시드 고정 난수로 하므로 같은 설정이면 같은 요청 순서가 만들어진다.
+ */
+public class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final Map<String, String> ERROR_CODES_BY_MESSAGE = Arrays.stream(PointErrorCode.values())
+            .collect(Collectors.toUnmodifiableMap(PointErrorCode::getMsg, PointErrorCode::name));
+
+    private final LoadTestOptions options;
+    private final URI base;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ZipfGenerator userIds;
+    private final Operation[] operationTable;
+
+    private final LoadTestStatistics statistics = new LoadTestStatistics();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadGenerator(LoadTestOptions options, URI base) {
+        this.options = options;
+        this.base = base;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(options.timeoutMillis()))
+                .build();
+        this.userIds = new ZipfGenerator(options.users(), options.zipfExponent());
+        this.operationTable = operationTable(options.mix());
+    }
+
+    /**
+     * 예열 + 측정 시간 동안 요청을 보내고, 보낸 요청의 응답을 모두 받은 뒤 측정 구간의 집계를 반환한다.
+     */
+    public LoadTestStatistics run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Duration timeout = Duration.ofMillis(options.timeoutMillis());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        for (long sequence = 0; ; sequence++) {
+            long intended = start + sequence * intervalNanos;
+            if (intended - end >= 0) {
+                break;
+            }
+            parkUntil(intended);
+
+            Operation operation = operationTable[random.nextInt(operationTable.length)];
+            long userId = userIds.next(random);
+            long amount = random.nextLong(options.minAmount(), options.maxAmount() + 1);
+            boolean measured = intended - measureFrom >= 0;
+
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (measured) {
+                    statistics.drop(operation);
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(operation.request(base, userId, amount, timeout), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intended;
+                        if (measured) {
+                            statistics.record(operation, latency, outcome(response, failure));
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        awaitInFlight(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.timeoutMillis()) * 2);
+        return statistics;
+    }
+
+    private String outcome(HttpResponse<String> response, Throwable failure) {
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR";
+        }
+        if (response.statusCode() == 200) {
+            return LoadTestStatistics.OK;
+        }
+        // 오류 응답에는 코드 이름이 없으므로 메시지로 PointErrorCode 를 찾는다.
+        try {
+            ErrorResponse error = objectMapper.readValue(response.body(), ErrorResponse.class);
+            String code = ERROR_CODES_BY_MESSAGE.get(error.message());
+            if (code != null) {
+                return code;
+            }
+        } catch (IOException e) {
+            log.debug("오류 응답을 읽을 수 없습니다. {}", response.body(), e);
+        }
+        return "HTTP_" + response.statusCode();
+    }
+
+    private void awaitInFlight(long deadline) throws InterruptedException {
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                log.warn("응답을 받지 못한 요청 {}건을 기다리지 않고 종료합니다.", inFlight.get());
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * 비율만큼 종류를 채운 표 (난수 하나로 종류를 고른다)
+     */
+    private static Operation[] operationTable(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * - 인자는 --name=value 형식이며, 점(.)이 들어간 인자(--point.concurrency.mode=PARTITIONED 등)는 내장 애플리케이션 설정으로 넘긴다.
+ * - target 을 지정하지 않으면 애플리케이션을 같은 JVM 에서 임의 포트로 띄워 그 주소로 요청한다.
+ *
+ * @param target        요청할 서버 주소 (비어 있으면 내장 애플리케이션)
+ * @param rate          초당 요청 수 (open-loop, 응답을 기다리지 않고 일정한 간격으로 보낸다)
+ * @param warmupSeconds 집계하지 않는 예열 시간
+ * @param durationSeconds 집계하는 측정 시간
+ * @param users         요청할 유저 수 (id 1 ~ users)
+ * @param zipfExponent  유저 쏠림 정도 (0 이면 균등, 클수록 id 가 작은 유저에 요청이 몰린다)
+ * @param mix           요청 종류별 비율
+ * @param minAmount     충전/사용 금액 최솟값
+ * @param maxAmount     충전/사용 금액 최댓값
+ * @param maxInFlight   응답을 기다리는 최대 요청 수 (넘으면 보내지 않고 dropped 로 집계한다)
+ * @param timeoutMillis 요청 타임아웃
+ * @param seed          요청 생성 난수 시드
+ * @param output        리포트를 기록할 디렉터리
+ * @param applicationArgs 내장 애플리케이션에 넘길 인자
+ */
+public record LoadTestOptions(
+        String target,
+        int rate,
+        int warmupSeconds,
+        int durationSeconds,
+        int users,
+        double zipfExponent,
+        Map<Operation, Integer> mix,
+        long minAmount,
+        long maxAmount,
+        int maxInFlight,
+        long timeoutMillis,
+        long seed,
+        Path output,
+        List<String> applicationArgs
+) {
+
+    static final String USAGE = """
+            사용법 : ./gradlew loadTest -Pload.args="--rate=500 --duration=60 --mix=read:70,histories:5,charge:15,use:10"
+              --target=http://host:port   요청할 서버 (기본 : 내장 애플리케이션을 임의 포트로 실행)
+              --rate=200                  초당 요청 수 (open-loop)
+              --warmup=5                  예열 시간(초, 집계하지 않음)
+              --duration=30               측정 시간(초)
+              --users=10000               유저 수
+              --zipf=1.1                  유저 쏠림 지수 (0 이면 균등)
+              --mix=read:70,histories:5,charge:15,use:10
+              --amount=1..100000          충전/사용 금액 범위
+              --max-in-flight=1000        응답 대기 중인 최대 요청 수
+              --timeout=10000             요청 타임아웃(ms)
+              --seed=42                   난수 시드
+              --output=build/reports/load-test
+              --point.xxx=...             내장 애플리케이션 설정 (점이 들어간 인자)
+            """;
+
+    public LoadTestOptions {
+        if (rate < 1 || warmupSeconds < 0 || durationSeconds < 1 || users < 1 || zipfExponent < 0
+                || minAmount < 1 || maxAmount < minAmount || maxInFlight < 1 || timeoutMillis < 1) {
+            throw new IllegalArgumentException("부하 테스트 설정이 유효하지 않습니다.\n" + USAGE);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() < 1) {
+            throw new IllegalArgumentException("요청 종류 비율의 합이 0 입니다.\n" + USAGE);
+        }
+        mix = Map.copyOf(mix);
+        applicationArgs = List.copyOf(applicationArgs);
+    }
+
+    public boolean embedded() {
+        return target.isBlank();
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        String target = "";
+        int rate = 200;
+        int warmup = 5;
+        int duration = 30;
+        int users = 10_000;
+        double zipf = 1.1;
+        Map<Operation, Integer> mix = parseMix("read:70,histories:5,charge:15,use:10");
+        long minAmount = 1;
+        long maxAmount = 100_000;
+        int maxInFlight = 1_000;
+        long timeout = 10_000;
+        long seed = 42;
+        Path output = Path.of("build", "reports", "load-test");
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자 형식이 유효하지 않습니다. " + arg + "\n" + USAGE);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "target" -> target = value;
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "duration" -> duration = Integer.parseInt(value);
+                case "users" -> users = Integer.parseInt(value);
+                case "zipf" -> zipf = Double.parseDouble(value);
+                case "mix" -> mix = parseMix(value);
+                case "amount" -> {
+                    String[] range = value.split("\\.\\.");
+                    minAmount = Long.parseLong(range[0]);
+                    maxAmount = Long.parseLong(range[range.length - 1]);
+                }
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "timeout" -> timeout = Long.parseLong(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "output" -> output = Path.of(value);
+                default -> {
+                    if (!name.contains(".")) {
+                        throw new IllegalArgumentException("알 수 없는 인자입니다. " + arg + "\n" + USAGE);
+                    }
+                    applicationArgs.add(arg);
+                }
+            }
+        }
+        return new LoadTestOptions(target, rate, warmup, duration, users, zipf, mix, minAmount, maxAmount,
+                maxInFlight, timeout, seed, output, applicationArgs);
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, 0);
+        }
+        for (String entry : value.split(",")) {
+            String[] weight = entry.split(":");
+            if (weight.length != 2 || Integer.parseInt(weight[1].trim()) < 0) {
+                throw new IllegalArgumentException("요청 비율 형식이 유효하지 않습니다. " + entry + "\n" + USAGE);
+            }
+            mix.put(Operation.from(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 리포트
+ * - 표준 출력 : 요청 종류별 처리량, 오류율, 지연 시간 백분위 표와 오류 코드별 건수
+ * - report.json : 같은 내용 (실행 간 비교용)
+ * - {종류}.hgrm : 백분위 분포 (HdrHistogram plotter 로 그릴 수 있다, 단위 ms)
+ */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final LoadTestOptions options;
+    private final LoadTestStatistics statistics;
+
+    public LoadTestReport(LoadTestOptions options, LoadTestStatistics statistics) {
+        this.options = options;
+        this.statistics = statistics;
+    }
+
+    public void write(URI target, PrintStream out) throws IOException {
+        List<OperationSummary> summaries = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            if (options.mix().getOrDefault(operation, 0) > 0) {
+                summaries.add(summarize(operation.name(), statistics.latency(operation),
+                        statistics.outcomes(operation), statistics.dropped(operation)));
+            }
+        }
+        Map<String, Long> totalOutcomes = new LinkedHashMap<>();
+        long totalDropped = 0;
+        for (Operation operation : Operation.values()) {
+            statistics.outcomes(operation).forEach((outcome, count) -> totalOutcomes.merge(outcome, count, Long::sum));
+            totalDropped += statistics.dropped(operation);
+        }
+        OperationSummary total = summarize("TOTAL", statistics.totalLatency(), totalOutcomes, totalDropped);
+
+        print(target, summaries, total, out);
+
+        Files.createDirectories(options.output());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", target.toString());
+        report.put("options", options);
+        report.put("operations", summaries);
+        report.put("total", total);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.output().resolve("report.json").toFile(), report);
+        for (Operation operation : Operation.values()) {
+            writeDistribution(options.output().resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm"),
+                    statistics.latency(operation));
+        }
+        writeDistribution(options.output().resolve("total.hgrm"), statistics.totalLatency());
+        out.println("리포트 : " + options.output().toAbsolutePath());
+    }
+
+    private OperationSummary summarize(String name, Histogram latency, Map<String, Long> outcomes, long dropped) {
+        long count = latency.getTotalCount();
+        long ok = outcomes.getOrDefault(LoadTestStatistics.OK, 0L);
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + format(percentile), latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+        }
+        Map<String, Long> errors = new LinkedHashMap<>(outcomes);
+        errors.remove(LoadTestStatistics.OK);
+        return new OperationSummary(name, count, ok, count - ok, dropped,
+                count / (double) options.durationSeconds(),
+                count == 0 ? 0 : (count - ok) / (double) count,
+                latency.getMean() / MICROS_PER_MILLI,
+                percentiles,
+                latency.getMaxValue() / MICROS_PER_MILLI,
+                errors);
+    }
+
+    private void print(URI target, List<OperationSummary> summaries, OperationSummary total, PrintStream out) {
+        out.printf("%n대상 : %s, %d rps x %ds (예열 %ds), 유저 %d명 (zipf %.2f, 상위 1%% 유저 요청 비율 %.1f%%)%n",
+                target, options.rate(), options.durationSeconds(), options.warmupSeconds(), options.users(),
+                options.zipfExponent(), topShare() * 100);
+        out.printf("%-10s %9s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "rps", "error%", "dropped", "p50(ms)", "p90", "p99", "p99.9", "p99.99", "max");
+        for (OperationSummary summary : summaries) {
+            printRow(summary, out);
+        }
+        printRow(total, out);
+
+        out.println("오류");
+        boolean none = true;
+        for (OperationSummary summary : summaries) {
+            for (Map.Entry<String, Long> error : summary.errors().entrySet()) {
+                none = false;
+                out.printf("  %-10s %-28s %9d (%.2f%%)%n", summary.operation(), error.getKey(), error.getValue(),
+                        error.getValue() * 100.0 / summary.count());
+            }
+        }
+        if (none) {
+            out.println("  없음");
+        }
+    }
+
+    private static void printRow(OperationSummary summary, PrintStream out) {
+        Map<String, Double> p = summary.latencyMillis();
+        out.printf("%-10s %9d %9.1f %8.2f %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                summary.operation(), summary.count(), summary.throughput(), summary.errorRate() * 100, summary.dropped(),
+                p.get("p50"), p.get("p90"), p.get("p99"), p.get("p99.9"), p.get("p99.99"), summary.maxMillis());
+    }
+
+    private double topShare() {
+        int top = Math.max(1, options.users() / 100);
+        return new ZipfGenerator(options.users(), options.zipfExponent()).topShare(top);
+    }
+
+    private static void writeDistribution(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            if (latency.getTotalCount() > 0) {
+                latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    /**
+     * 요청 종류별 집계 (지연 시간 단위 ms, 처리량 단위 초당 응답 수)
+     */
+    public record OperationSummary(
+            String operation,
+            long count,
+            long ok,
+            long errorCount,
+            long dropped,
+            double throughput,
+            double errorRate,
+            double meanMillis,
+            Map<String, Double> latencyMillis,
+            double maxMillis,
+            Map<String, Long> errors
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.loadtest;
+
+import io.hhplus.tdd.TddApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * PointController 부하 테스트 실행
+ * - target 을 지정하지 않으면 애플리케이션을 같은 JVM 에서 임의 포트로 띄우고, 끝나면 종료한다. (외부 서비스 없이 실행)
+ * - 같은 JVM 이므로 부하 생성기와 서버가 CPU 를 나눠 쓴다. 절대 수치보다 설정 간 비교에 사용한다.
+ *
+ * ./gradlew loadTest -Pload.args="--rate=500 --duration=60 --zipf=1.2 --point.concurrency.mode=PARTITIONED --point.balance.store.type=PRIMITIVE"
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext application = options.embedded() ? start(options) : null;
+        try {
+            URI target = application != null
+                    ? URI.create("http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort())
+                    : URI.create(options.target());
+            LoadTestStatistics statistics = new LoadGenerator(options, target).run();
+            new LoadTestReport(options, statistics).write(target, System.out);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        return new SpringApplicationBuilder(TddApplication.class)
+                .properties("server.port=0")
+                .run(options.applicationArgs().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 시간 분포와 결과 집계
+ * - 지연 시간은 마이크로초 단위로 HdrHistogram 에 기록한다. (유효 숫자 3자리, 최대 MAX_LATENCY_MICROS)
+ * - 결과는 OK / 오류 코드 이름(PointErrorCode) / HTTP_상태 코드 / TIMEOUT / IO_ERROR 로 구분하여 센다.
+ * - 응답 스레드 여러 개가 동시에 기록하므로 ConcurrentHistogram 과 LongAdder 를 사용한다.
+ */
+public class LoadTestStatistics {
+
+    public static final String OK = "OK";
+    public static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, OperationStatistics> operations = new EnumMap<>(Operation.class);
+
+    public LoadTestStatistics() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationStatistics());
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, String outcome) {
+        OperationStatistics statistics = operations.get(operation);
+        statistics.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        statistics.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 응답 대기 중인 요청이 너무 많아 보내지 못한 요청
+     */
+    public void drop(Operation operation) {
+        operations.get(operation).dropped.increment();
+    }
+
+    public Histogram latency(Operation operation) {
+        return operations.get(operation).latency;
+    }
+
+    public Histogram totalLatency() {
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        for (OperationStatistics statistics : operations.values()) {
+            total.add(statistics.latency);
+        }
+        return total;
+    }
+
+    public Map<String, Long> outcomes(Operation operation) {
+        Map<String, Long> outcomes = new TreeMap<>();
+        operations.get(operation).outcomes.forEach((outcome, count) -> outcomes.put(outcome, count.sum()));
+        return outcomes;
+    }
+
+    public long dropped(Operation operation) {
+        return operations.get(operation).dropped.sum();
+    }
+
+    private static final class OperationStatistics {
+
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 요청 종류 (PointController 엔드포인트)
+ */
+public enum Operation {
+    READ {
+        @Override
+        HttpRequest.Builder request(URI base, long userId, long amount) {
+            return HttpRequest.newBuilder(base.resolve("/point/" + userId)).GET();
+        }
+    },
+    HISTORIES {
+        // 내역이 계속 쌓이므로 최근 페이지 하나만 조회한다.
+        @Override
+        HttpRequest.Builder request(URI base, long userId, long amount) {
+            return HttpRequest.newBuilder(base.resolve("/point/" + userId + "/histories?limit=" + HISTORY_PAGE_SIZE)).GET();
+        }
+    },
+    CHARGE {
+        @Override
+        HttpRequest.Builder request(URI base, long userId, long amount) {
+            return patch(base.resolve("/point/" + userId + "/charge"), amount);
+        }
+    },
+    USE {
+        @Override
+        HttpRequest.Builder request(URI base, long userId, long amount) {
+            return patch(base.resolve("/point/" + userId + "/use"), amount);
+        }
+    };
+
+    private static final int HISTORY_PAGE_SIZE = 20;
+
+    abstract HttpRequest.Builder request(URI base, long userId, long amount);
+
+    HttpRequest request(URI base, long userId, long amount, Duration timeout) {
+        return request(base, userId, amount).timeout(timeout).build();
+    }
+
+    static Operation from(String name) {
+        return valueOf(name.toUpperCase());
+    }
+
+    private static HttpRequest.Builder patch(URI uri, long amount) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)));
+    }
+}
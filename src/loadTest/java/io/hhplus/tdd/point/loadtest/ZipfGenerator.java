@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1 ~ n 사이의 유저 id 를 Zipf 분포로 뽑는다.
+ * - k 번째 유저가 뽑힐 확률은 1 / k^exponent 에 비례한다. (exponent 가 0 이면 균등 분포)
+ * - 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑는다. (n 개 double, 유저 100만 명 기준 8MB)
+ */
+public class ZipfGenerator {
+
+    private final double[] cumulative;
+
+    public ZipfGenerator(int n, double exponent) {
+        this.cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public long next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1) + 1L;
+    }
+
+    /**
+     * 가장 많이 뽑히는 상위 count 명이 차지하는 요청 비율
+     */
+    public double topShare(int count) {
+        return cumulative[Math.min(count, cumulative.length) - 1];
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import jdk.jfr.Description;
+
+import java.util.List;
+
+/**
+ * 일괄 충전/사용 Command
+ * 최대 건수는 설정(point.batch.max-size)에 따라 서비스에서 검사한다.
+ */
+@Description("일괄 충전/사용 Command")
+public record PointBatchCommand(
+        List<PointBatchItem> items
+) {
+
+    public PointBatchCommand {
+        // Items 검증
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(PointErrorCode.INVALID_BATCH_SIZE);
+        }
+        items = List.copyOf(items);
+    }
+}
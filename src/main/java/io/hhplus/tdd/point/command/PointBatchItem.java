@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import jdk.jfr.Description;
+
+/**
+ * 일괄 충전/사용 요청 1건
+ * 한 건이 잘못되어도 나머지는 처리해야 하므로, 생성 시점이 아닌 처리 시점에 검증한다.
+ */
+@Description("일괄 충전/사용 요청 항목")
+public record PointBatchItem(
+        Long userId,
+        Long amount,
+        TransactionType type
+) {
+
+    /**
+     * UserPointCommand 와 같은 규칙으로 검증한다.
+     */
+    public UserPointCommand toUserPointCommand() {
+        UserPointCommand command = new UserPointCommand(userId, amount);
+        // Type 검증 (전송은 일괄 처리로 요청할 수 없다)
+        if (type == null || type.isTransfer()) {
+            throw new BusinessException(PointErrorCode.INVALID_TRANSACTION_TYPE);
+        }
+        return command;
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import jdk.jfr.Description;
+
+/**
+ * 유저 범위 id : 1 ~ 1,000,000,000
+ * 커서 : 직전 페이지의 마지막 히스토리 id (없으면 처음부터 조회)
+ * 조회 건수 : 1 ~ 1,000 (없으면 전체 조회)
+ * 조회 기간 : fromMillis ~ toMillis (양 끝 포함, 각각 생략 가능)
+ * 거래 종류 : 없으면 전체 조회
+ */
+
+@Description("특정 유저 포인트 내역 조회 Command")
+public record PointHistoryQueryCommand(
+        Long id,
+        Long cursor,
+        Integer limit,
+        Long fromMillis,
+        Long toMillis,
+        TransactionType type
+) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public PointHistoryQueryCommand {
+        // ID 검증
+        if (id == null || id < 1 || id > 1000000000) {
+            throw new BusinessException(PointErrorCode.INVALID_USER_ID);
+        }
+
+        // Cursor 검증
+        if (cursor != null && cursor < 0) {
+            throw new BusinessException(PointErrorCode.INVALID_CURSOR);
+        }
+
+        // Limit 검증
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new BusinessException(PointErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        // 기간 검증
+        if (fromMillis != null && toMillis != null && fromMillis > toMillis) {
+            throw new BusinessException(PointErrorCode.INVALID_TIME_RANGE);
+        }
+    }
+
+    public static PointHistoryQueryCommand all(long id) {
+        return new PointHistoryQueryCommand(id, null, null, null, null, null);
+    }
+
+    public long cursorOrZero() {
+        return cursor == null ? 0 : cursor;
+    }
+
+    /**
+     * 기간, 거래 종류 조건에 맞는 히스토리인지 검사한다.
+     */
+    public boolean matches(PointHistory pointHistory) {
+        if (type != null && type != pointHistory.type()) {
+            return false;
+        }
+        if (fromMillis != null && pointHistory.updateMillis() < fromMillis) {
+            return false;
+        }
+        return toMillis == null || pointHistory.updateMillis() <= toMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.SummaryGranularity;
+import io.hhplus.tdd.point.error.BusinessException;
+import jdk.jfr.Description;
+
+/**
+ * 유저 범위 id : 1 ~ 1,000,000,000
+ * 집계 단위 : 없으면 MONTH
+ * 조회 기간 : fromMillis ~ toMillis 에 걸친 구간 (양 끝 포함, 각각 생략 가능)
+ */
+
+@Description("특정 유저 포인트 내역 요약 조회 Command")
+public record PointSummaryQueryCommand(
+        Long id,
+        SummaryGranularity granularity,
+        Long fromMillis,
+        Long toMillis
+) {
+
+    public PointSummaryQueryCommand {
+        // ID 검증
+        if (id == null || id < 1 || id > 1000000000) {
+            throw new BusinessException(PointErrorCode.INVALID_USER_ID);
+        }
+
+        // 기간 검증
+        if (fromMillis != null && toMillis != null && fromMillis > toMillis) {
+            throw new BusinessException(PointErrorCode.INVALID_TIME_RANGE);
+        }
+
+        if (granularity == null) {
+            granularity = SummaryGranularity.MONTH;
+        }
+    }
+}
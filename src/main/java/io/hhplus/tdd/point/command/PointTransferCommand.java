@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import jdk.jfr.Description;
+
+/**
+ * 유저 범위 id : 1 ~ 1,000,000,000
+ * 전송 금액 범위 : 1 ~ 10,000,000 (1천만원)
+ * 보내는 유저와 받는 유저는 달라야 한다.
+ */
+
+@Description("유저 간 포인트 전송 Command")
+public record PointTransferCommand(
+        Long senderId,
+        Long receiverId,
+        Long amount
+) {
+
+    public PointTransferCommand {
+        // ID 검증
+        if (senderId == null || senderId < 1 || senderId > 1000000000
+                || receiverId == null || receiverId < 1 || receiverId > 1000000000) {
+            throw new BusinessException(PointErrorCode.INVALID_USER_ID);
+        }
+
+        // 자기 자신에게 전송 불가
+        if (senderId.equals(receiverId)) {
+            throw new BusinessException(PointErrorCode.INVALID_TRANSFER_RECEIVER);
+        }
+
+        // Amount 검증
+        if (amount == null || amount < 1 || amount > 10000000) {
+            throw new BusinessException(PointErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    public UserPointCommand toSenderCommand() {
+        return new UserPointCommand(senderId, amount);
+    }
+
+    public UserPointCommand toReceiverCommand() {
+        return new UserPointCommand(receiverId, amount);
+    }
+}
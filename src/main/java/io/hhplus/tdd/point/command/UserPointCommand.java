@@ -9,13 +9,21 @@ import jdk.jfr.Description;
  * 충전 금액 범위 : 1 ~ 10,000,000 (1천만원)
  * 사용 금액 범위 : 1 ~ 10,000,000 (1천만원)
  * 잔고 금액 범위 : 0 ~ 10,000,000 (1천만원)
+ * 멱등성 키 : 선택, 1 ~ 255자 (같은 키로 다시 요청하면 처음 결과를 그대로 반환)
  */
 
 @Description("특정 유저의 포인트 Command")
 public record UserPointCommand(
         Long id,
-        Long amount
+        Long amount,
+        String idempotencyKey
 ) {
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    public UserPointCommand(Long id, Long amount) {
+        this(id, amount, null);
+    }
+
     public UserPointCommand {
         // ID 검증
         if (id == null || id < 1 || id > 1000000000) {
@@ -23,8 +31,13 @@ public record UserPointCommand(
         }
 
         // Amount 검증
-        if (id == null || id < 1 || id > 10000000) {
+        if (amount == null || amount < 1 || amount > 10000000) {
             throw new BusinessException(PointErrorCode.INVALID_AMOUNT);
         }
+
+        // 멱등성 키 검증
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new BusinessException(PointErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
     }
 }
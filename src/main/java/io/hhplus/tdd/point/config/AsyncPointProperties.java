@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 포인트 API 설정
+ * - throughput : 유저 작업 대기열을 한 번 실행할 때 처리하는 최대 작업 수
+ *   (넘으면 대기열을 다시 실행 대기시켜, 요청이 몰린 유저가 실행 스레드를 독차지하지 않도록 한다)
+ * - threads : 유저 작업 대기열을 실행하는 전용 스레드 수 (applicationTaskExecutor 와 나누어 쓰지 않는다)
+ *   가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서는 사용하지 않고 작업마다 가상 스레드를 만든다.
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record AsyncPointProperties(
+        @DefaultValue("64") int throughput,
+        @DefaultValue("32") int threads
+) {
+}
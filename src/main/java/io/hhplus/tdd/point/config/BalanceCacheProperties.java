@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔고 캐시 설정
+ * - enabled : false 인 경우 항상 UserPointTable 에서 조회한다.
+ * - maxSize : 캐시에 보관하는 최대 유저 수 (초과 시 가장 오래 조회되지 않은 유저부터 제거)
+ */
+@ConfigurationProperties(prefix = "point.balance.cache")
+public record BalanceCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxSize
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.enumtype.BalanceStoreType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 잔고 저장소 설정
+ * - type : 저장소 종류
+ * - offHeap : PRIMITIVE 저장소의 슬롯을 heap 밖(direct buffer)에 둘지 여부
+ * - segments : PRIMITIVE 저장소의 세그먼트(락) 수
+ * - initialCapacity : PRIMITIVE 저장소의 초기 슬롯 수 (예상 유저 수에 맞추면 크기 조정이 줄어든다)
+ */
+@ConfigurationProperties(prefix = "point.balance.store")
+public record BalanceStoreProperties(
+        @DefaultValue("TABLE") BalanceStoreType type,
+        @DefaultValue("false") boolean offHeap,
+        @DefaultValue("64") int segments,
+        @DefaultValue("65536") int initialCapacity
+) {
+}
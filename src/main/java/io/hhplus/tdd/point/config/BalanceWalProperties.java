@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔고 로그/스냅샷 설정 (point.balance.store.type=DURABLE 일 때 사용)
+ * - directory : 로그 세그먼트와 스냅샷 파일을 둘 디렉터리
+ * - sync : 로그 디스크 기록 방식
+ * - syncIntervalMillis : INTERVAL 방식의 강제 기록 주기
+ * - snapshotIntervalMillis : 스냅샷 필요 여부를 확인하는 주기
+ * - snapshotMinRecords : 마지막 스냅샷 이후 로그가 이만큼 쌓이면 스냅샷을 만든다.
+ */
+@ConfigurationProperties(prefix = "point.balance.wal")
+public record BalanceWalProperties(
+        @DefaultValue("data/balance") String directory,
+        @DefaultValue("INTERVAL") WalSyncMode sync,
+        @DefaultValue("100") long syncIntervalMillis,
+        @DefaultValue("60000") long snapshotIntervalMillis,
+        @DefaultValue("100000") long snapshotMinRecords
+) {
+}
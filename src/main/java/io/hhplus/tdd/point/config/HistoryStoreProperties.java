@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.enumtype.HistoryStoreType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 히스토리 저장소 설정
+ * - type : 저장소 종류
+ * - directory : MAPPED 로그 파일을 둘 디렉터리
+ * - segmentSize : MAPPED 로그 파일(세그먼트) 하나의 크기 (byte)
+ * - forceOnWrite : MAPPED 저장 시마다 디스크에 강제 기록할지 여부 (false 이면 OS 가 기록 시점을 정한다)
+ */
+@ConfigurationProperties(prefix = "point.history.store")
+public record HistoryStoreProperties(
+        @DefaultValue("TABLE") HistoryStoreType type,
+        @DefaultValue("data/history") String directory,
+        @DefaultValue("67108864") int segmentSize,
+        @DefaultValue("false") boolean forceOnWrite
+) {
+}
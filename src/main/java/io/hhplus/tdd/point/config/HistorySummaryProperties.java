@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.ZoneId;
+
+/**
+ * 포인트 내역 요약(시간/일/월 집계) 설정
+ * - zone : 집계 구간을 자르는 기준 시간대
+ * - hourBuckets : 유저별로 보관하는 최근 시간 단위 구간 수 (초과 시 오래된 구간부터 제거, 0 이면 제한 없음)
+ * - dayBuckets : 유저별로 보관하는 최근 일 단위 구간 수 (초과 시 오래된 구간부터 제거, 0 이면 제한 없음)
+ * 월 단위 구간은 모두 보관한다.
+ */
+@ConfigurationProperties(prefix = "point.history.summary")
+public record HistorySummaryProperties(
+        @DefaultValue("Asia/Seoul") ZoneId zone,
+        @DefaultValue("168") int hourBuckets,
+        @DefaultValue("400") int dayBuckets
+) {
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 히스토리 비동기 저장(write-behind) 설정
+ * - enabled : false 인 경우 호출 스레드에서 바로 저장한다.
+ * - partitions : 저장 워커 수 (같은 유저는 항상 같은 워커가 처리하여 순서를 보장)
+ * - queueCapacity : 워커별 대기열 크기 (가득 차면 호출 스레드가 대기한다)
+ * - offerTimeoutMillis : 대기열이 가득 찼을 때 기다리는 최대 시간 (넘으면 같은 유저의 대기 중인 히스토리가 저장된 뒤 호출 스레드에서 바로 저장한다)
+ * - shutdownTimeoutMillis : 종료 시 남은 히스토리를 저장하기 위해 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.history.write-behind")
+public record HistoryWriteBehindProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4") int partitions,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("100") long offerTimeoutMillis,
+        @DefaultValue("30000") long shutdownTimeoutMillis
+) {
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 멱등성 키 설정
+ * - maxEntries : 결과를 보관하는 최대 키 수 (초과 시 오래된 키부터 제거)
+ * - ttlMillis : 결과 보관 시간 (이 시간이 지난 키로 다시 요청하면 새 요청으로 처리)
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("3600000") long ttlMillis
+) {
+}
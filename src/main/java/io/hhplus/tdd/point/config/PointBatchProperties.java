@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 일괄 충전/사용 설정
+ * - maxSize : 한 번에 요청할 수 있는 최대 건수
+ * - concurrency : 요청 하나가 일괄 처리 전용 실행기(PointBatchExecutor)에서 동시에 사용하는 최대 작업 수
+ *   항목 하나는 잔고 조회/저장과 히스토리 저장으로 테이블을 여러 번 거쳐 약 0.5초가 걸린다.
+ *   64 이면 10,000건을 약 80초에 처리한다. (유저 수만큼 작업을 넣지 않으므로 큰 요청 하나가 실행기를 독차지하지 않는다)
+ * - threads : 일괄 처리 전용 실행기의 스레드 수 (applicationTaskExecutor 와 나누어 쓰지 않는다)
+ *   concurrency 의 2배이면 큰 요청 두 개가 함께 들어와도 각자 concurrency 만큼 실행된다.
+ *   가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서는 사용하지 않고 작업마다 가상 스레드를 만든다.
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("64") int concurrency,
+        @DefaultValue("128") int threads
+) {
+}
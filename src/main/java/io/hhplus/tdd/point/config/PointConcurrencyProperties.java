@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 충전/사용 동시성 제어 설정
+ * - mode : 동시성 제어 방식
+ * - combining : (LOCK) 같은 유저에게 몰린 요청을 락을 잡은 한 스레드가 모아서 처리 (잔고 저장 1회)
+ * - maxBatchSize : (LOCK) combining 시 한 번에 모아서 처리하는 최대 요청 수
+ * - maxAttempts : (OPTIMISTIC) 충돌 시 최대 시도 횟수
+ * - backoffMinMicros, backoffMaxMicros : (OPTIMISTIC) 재시도 전 대기 시간 범위 (시도할수록 2배씩 증가)
+ */
+@ConfigurationProperties(prefix = "point.concurrency")
+public record PointConcurrencyProperties(
+        @DefaultValue("LOCK") PointConcurrencyMode mode,
+        @DefaultValue("false") boolean combining,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("100") long backoffMinMicros,
+        @DefaultValue("10000") long backoffMaxMicros
+) {
+}
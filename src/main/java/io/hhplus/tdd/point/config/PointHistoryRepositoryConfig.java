@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.summary.PointHistoryAggregates;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PointHistoryRepositoryConfig {
+
+    /**
+     * 저장소 종류와 관계없이 저장한 히스토리를 유저별 구간 집계에 함께 반영한다.
+     */
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(HistoryStoreProperties properties, PointHistoryTable pointHistoryTable,
+                                                         PointHistoryAggregates pointHistoryAggregates) {
+        PointHistoryRepository repository = switch (properties.type()) {
+            case TABLE -> new PointHistoryRepositoryImpl(pointHistoryTable);
+            case MAPPED -> new MappedPointHistoryRepository(
+                    Path.of(properties.directory()), properties.segmentSize(), properties.forceOnWrite());
+            case COLUMNAR -> new ColumnarPointHistoryRepository();
+        };
+        return new AggregatingPointHistoryRepository(repository, pointHistoryAggregates);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * (PARTITIONED) 파티션 설정
+ * - count : 파티션(전담 스레드) 수 (0 이면 CPU 코어 수)
+ * - ringBufferSize : 파티션별 명령 링 버퍼 크기 (2의 거듭제곱, 가득 차면 넣는 스레드가 대기)
+ * - idleSpins : 명령이 없을 때 잠들기 전 다시 확인하는 횟수 (늘리면 지연이 줄고 CPU 사용이 는다)
+ * - offerTimeoutMillis : 링 버퍼가 가득 찼을 때 넣는 스레드가 기다리는 최대 시간
+ *   (요청 마감 시각이 더 빠르면 그때까지, 넘으면 USER_BUSY 로 실패, 0 이면 기다리지 않는다)
+ */
+@ConfigurationProperties(prefix = "point.partition")
+public record PointPartitionProperties(
+        @DefaultValue("0") int count,
+        @DefaultValue("1024") int ringBufferSize,
+        @DefaultValue("100") int idleSpins,
+        @DefaultValue("1000") long offerTimeoutMillis
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.deadline.RequestDeadlineInterceptor;
+import io.hhplus.tdd.point.ratelimit.PointRateLimiter;
+import io.hhplus.tdd.point.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class PointWebConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final PointRateLimiter pointRateLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestDeadlineInterceptor())
+                .addPathPatterns("/point/**");
+        if (rateLimitProperties.enabled()) {
+            registry.addInterceptor(new RateLimitInterceptor(pointRateLimiter))
+                    .addPathPatterns("/point/**");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 수 제한 설정 (/point/** 요청이 서비스에 닿기 전에 검사)
+ * - enabled : 요청 수 제한 사용 여부
+ * - userPermitsPerSecond, userBurst : 유저 한 명이 초당 보낼 수 있는 요청 수와 한 번에 몰아서 보낼 수 있는 요청 수
+ * - globalPermitsPerSecond, globalBurst : 전체 요청 수 제한 (0 이면 제한하지 않는다)
+ * - maxUsers : 유저별 버킷을 보관하는 최대 유저 수 (초과 시 오래된 버킷부터 제거)
+ * - ttlMillis : 유저별 버킷 보관 시간 (지나면 버킷을 새로 만든다)
+ */
+@ConfigurationProperties(prefix = "point.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") double userPermitsPerSecond,
+        @DefaultValue("100") int userBurst,
+        @DefaultValue("5000") double globalPermitsPerSecond,
+        @DefaultValue("10000") int globalBurst,
+        @DefaultValue("100000") int maxUsers,
+        @DefaultValue("60000") long ttlMillis
+) {
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔고 정합성 검사 설정
+ * - parallelism : 검사에 사용하는 fork-join 스레드 수 (0 이면 CPU 코어 수)
+ * - splitThreshold : 작업 하나가 직접 검사하는 최대 유저 수 (넘으면 둘로 나눈다)
+ * - intervalMillis : 주기적으로 검사할 간격 (0 이면 API 로만 실행)
+ * - repair : 주기 검사에서 불일치를 히스토리 기준으로 바로잡을지 여부
+ * - maxReportedDiscrepancies : 결과에 담는 최대 불일치 건수
+ * - maxCheckpoints : 체크포인트를 보관하는 최대 유저 수 (넘으면 오래 바뀌지 않은 유저부터 버리고, 다음 검사에서 처음부터 다시 읽는다)
+ * - repairTimeoutMillis : (PARTITIONED) 파티션 스레드에서 잔고를 바로잡을 때 기다리는 최대 시간 (넘으면 다음 검사로 미룬다)
+ */
+@ConfigurationProperties(prefix = "point.reconciliation")
+public record ReconciliationProperties(
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("256") int splitThreshold,
+        @DefaultValue("0") long intervalMillis,
+        @DefaultValue("false") boolean repair,
+        @DefaultValue("1000") int maxReportedDiscrepancies,
+        @DefaultValue("100000") int maxCheckpoints,
+        @DefaultValue("5000") long repairTimeoutMillis
+) {
+}
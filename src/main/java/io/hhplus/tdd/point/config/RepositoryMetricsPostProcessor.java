@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Repository 호출 시간을 측정하는 프록시로 감싼다.
+ * - point.repository.call (repository, method 태그) : 테이블(또는 저장소) 호출 시간
+ * - 구현체가 바뀌어도 Repository 인터페이스 단위로 같은 지표를 남긴다.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> repositoryType = repositoryType(bean);
+        if (repositoryType == null) {
+            return bean;
+        }
+        String repository = repositoryType == UserPointRepository.class ? "user_point" : "point_history";
+        MeterRegistry registry = meterRegistry.getObject();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            // Repository 인터페이스의 메서드만 측정한다.
+            if (invocation.getMethod().getDeclaringClass() != repositoryType) {
+                return invocation.proceed();
+            }
+            Timer.Sample sample = Timer.start(registry);
+            try {
+                return invocation.proceed();
+            } finally {
+                sample.stop(Timer.builder("point.repository.call")
+                        .description("Repository 호출 시간")
+                        .tag("repository", repository)
+                        .tag("method", invocation.getMethod().getName())
+                        .register(registry));
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+
+    private Class<?> repositoryType(Object bean) {
+        if (bean instanceof UserPointRepository) {
+            return UserPointRepository.class;
+        }
+        if (bean instanceof PointHistoryRepository) {
+            return PointHistoryRepository.class;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.lock.BoundedUserLockManager;
+import io.hhplus.tdd.point.lock.InstrumentedUserLockManager;
+import io.hhplus.tdd.point.lock.RefCountedUserLockManager;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserLockConfig {
+
+    @Bean
+    public UserLockManager userLockManager(UserLockProperties properties, MeterRegistry meterRegistry) {
+        UserLockManager userLockManager = switch (properties.type()) {
+            case REF_COUNTED -> new RefCountedUserLockManager(properties.fair());
+            case STRIPED -> new StripedUserLockManager(properties.stripes(), properties.fair());
+        };
+        if (properties.maxWaitMillis() > 0 || properties.maxQueueDepth() > 0) {
+            userLockManager = new BoundedUserLockManager(userLockManager, properties.maxWaitMillis(), properties.maxQueueDepth(), meterRegistry);
+        }
+        return new InstrumentedUserLockManager(userLockManager, meterRegistry);
+    }
+}
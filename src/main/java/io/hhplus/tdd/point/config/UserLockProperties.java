@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.enumtype.UserLockType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 락 설정
+ * - type : 락 관리 방식
+ * - stripes : STRIPED 방식의 락 개수
+ * - fair : 락을 기다린 순서대로 획득할지 여부
+ * - maxWaitMillis : 락을 기다리는 최대 시간 (넘으면 USER_BUSY 로 실패, 0 이면 제한 없음)
+ * - maxQueueDepth : 유저 한 명의 락을 기다리거나 잡고 있는 최대 요청 수 (넘으면 기다리지 않고 USER_BUSY 로 실패, 0 이면 제한 없음)
+ *   비동기 API(UserSerialExecutor)의 유저별 대기 중이거나 실행 중인 작업 수도 같은 값으로 제한한다.
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+        @DefaultValue("REF_COUNTED") UserLockType type,
+        @DefaultValue("1024") int stripes,
+        @DefaultValue("true") boolean fair,
+        @DefaultValue("10000") long maxWaitMillis,
+        @DefaultValue("64") int maxQueueDepth
+) {
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.enumtype.BalanceStoreType;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.DurableUserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserPointRepositoryConfig {
+
+    @Bean
+    public UserPointRepository userPointRepository(BalanceStoreProperties properties,
+                                                   BalanceCacheProperties cacheProperties,
+                                                   BalanceWalProperties walProperties,
+                                                   PointConcurrencyProperties concurrencyProperties,
+                                                   UserPointTable userPointTable) {
+        // 파티션 스레드가 테이블 I/O(최대 수백 ms)를 기다리면 같은 파티션의 모든 유저가 함께 밀린다.
+        if (properties.type() == BalanceStoreType.TABLE && concurrencyProperties.mode() == PointConcurrencyMode.PARTITIONED) {
+            throw new IllegalStateException("point.concurrency.mode=PARTITIONED 는 point.balance.store.type=PRIMITIVE 또는 DURABLE 이 필요합니다.");
+        }
+        return switch (properties.type()) {
+            case TABLE -> new UserPointRepositoryImpl(userPointTable, cacheProperties);
+            case PRIMITIVE -> new PrimitiveUserPointRepository(
+                    new LongPointMap(properties.segments(), properties.initialCapacity(), properties.offHeap()));
+            case DURABLE -> new DurableUserPointRepository(properties, walProperties);
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import io.hhplus.tdd.point.reconciliation.BalanceReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/point")
+@RequiredArgsConstructor
+public class PointAdminController {
+
+    private final BalanceReconciler balanceReconciler;
+
+    /**
+     * 히스토리로 잔고를 다시 계산하여 저장된 잔고와 비교한다.
+     * full 이면 체크포인트를 무시하고 전체 히스토리를 다시 읽고, repair 이면 불일치 잔고를 히스토리 기준으로 바로잡는다.
+     */
+    @PostMapping("reconciliation")
+    public ReconciliationReport reconcile(
+            @RequestParam(defaultValue = "false") boolean full,
+            @RequestParam(defaultValue = "false") boolean repair
+    ) {
+        return balanceReconciler.reconcile(full, repair);
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 포인트 API
+ * CompletableFuture 를 반환하여 요청 스레드는 바로 반환되고, 처리가 끝나면 응답한다.
+ */
+@RestController
+@RequestMapping("/point/async")
+@RequiredArgsConstructor
+public class PointAsyncController {
+
+    private final PointAsyncService pointAsyncService;
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return pointAsyncService.getPoint(new UserIdCommand(id));
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable long id
+    ) {
+        return pointAsyncService.getHistory(new UserIdCommand(id));
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return pointAsyncService.chargePoint(new UserPointCommand(id, amount, idempotencyKey));
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return pointAsyncService.usePoint(new UserPointCommand(id, amount, idempotencyKey));
+    }
+}
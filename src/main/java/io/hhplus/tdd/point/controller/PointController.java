@@ -1,21 +1,43 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.command.PointBatchCommand;
+import io.hhplus.tdd.point.command.PointBatchItem;
+import io.hhplus.tdd.point.command.PointHistoryQueryCommand;
+import io.hhplus.tdd.point.command.PointSummaryQueryCommand;
 import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.PointTransferCommand;
 import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointTransferResult;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.SummaryGranularity;
+import io.hhplus.tdd.point.enumtype.TransactionType;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSummaryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/point")
 @RequiredArgsConstructor
 public class PointController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PointService pointService;
+    private final PointSummaryService pointSummaryService;
+    private final ObjectMapper objectMapper;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -29,33 +51,114 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * 조건 없이 호출하면 전체 내역을 반환한다.
+     * limit 를 지정하면 다음 페이지가 있을 때 X-Next-Cursor 헤더로 다음 커서를 내려준다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public ResponseEntity<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        PointHistoryPage page = pointService.getHistory(new PointHistoryQueryCommand(id, cursor, limit, from, to, type));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.histories());
+    }
+
+    /**
+     * 포인트 충전/이용 내역을 NDJSON(한 줄에 내역 하나)으로 스트리밍한다.
+     * 내역을 목록으로 모으지 않고 읽는 대로 응답에 쓴다.
+     */
+    @GetMapping(value = "{id}/histories", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHistory(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
     ) {
-        return pointService.getHistory(new UserIdCommand(id));
+        PointHistoryQueryCommand command = new PointHistoryQueryCommand(id, cursor, limit, from, to, type);
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<PointHistory> histories = pointService.streamHistory(command)) {
+                for (PointHistory pointHistory : (Iterable<PointHistory>) histories::iterator) {
+                    outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 포인트 충전/이용 내역을 시간/일/월 구간별, 거래 종류별 금액 합계와 건수로 요약한다.
+     * 예) GET /point/1/summary?granularity=MONTH&from=...&to=... (from, to 는 epoch millis)
+     */
+    @GetMapping("{id}/summary")
+    public PointHistorySummary summary(
+            @PathVariable long id,
+            @RequestParam(required = false) SummaryGranularity granularity,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        return pointSummaryService.getSummary(new PointSummaryQueryCommand(id, granularity, from, to));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 충전하고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        return pointService.chargePoint(new UserPointCommand(id, amount));
+        return pointService.chargePoint(new UserPointCommand(id, amount, idempotencyKey));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 사용하고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return pointService.usePoint(new UserPointCommand(id, amount, idempotencyKey));
+    }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 전송한다.
+     * 두 유저의 잔고가 함께 바뀌며, 잔고 부족/한도 초과 시 어느 쪽도 바뀌지 않는다.
+     */
+    @PatchMapping("{id}/transfer/{receiverId}")
+    public PointTransferResult transfer(
+            @PathVariable long id,
+            @PathVariable long receiverId,
             @RequestBody long amount
     ) {
-        return pointService.usePoint(new UserPointCommand(id, amount));
+        return pointService.transferPoint(new PointTransferCommand(id, receiverId, amount));
+    }
+
+    /**
+     * 여러 유저의 포인트를 일괄 충전/사용한다.
+     * 항목별 성공/실패 결과를 요청 순서대로 반환한다.
+     */
+    @PostMapping("batch")
+    public List<PointBatchResult> batch(
+            @RequestBody List<PointBatchItem> items
+    ) {
+        return pointService.executeBatch(new PointBatchCommand(items));
     }
 }
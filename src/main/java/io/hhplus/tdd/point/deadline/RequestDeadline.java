@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.deadline;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * 요청을 처리하는 스레드에 묶인 요청 마감 시각 (System.nanoTime 기준)
+ * - 웹 요청은 RequestDeadlineInterceptor 가 요청 도착 시각 + X-Request-Timeout 으로 설정한다.
+ * - 다른 스레드(비동기 실행기, 파티션 스레드)로 넘길 때는 current() 로 꺼내 callWith 로 다시 설정한다.
+ * - 마감 시각이 지난 요청은 기다리던 클라이언트가 이미 포기했으므로 처리하지 않는다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static OptionalLong current() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? OptionalLong.empty() : OptionalLong.of(deadline);
+    }
+
+    public static boolean isExpired(OptionalLong deadline) {
+        return deadline.isPresent() && deadline.getAsLong() - System.nanoTime() <= 0;
+    }
+
+    static void set(long deadlineNanos) {
+        DEADLINE.set(deadlineNanos);
+    }
+
+    static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * deadline 을 현재 스레드의 마감 시각으로 두고 task 를 실행한다. (끝나면 이전 값으로 되돌린다)
+     */
+    public static <T> T callWith(OptionalLong deadline, Supplier<T> task) {
+        Long previous = DEADLINE.get();
+        if (deadline.isPresent()) {
+            DEADLINE.set(deadline.getAsLong());
+        } else {
+            DEADLINE.remove();
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+}
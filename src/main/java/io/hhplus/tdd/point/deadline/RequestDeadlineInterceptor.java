@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.deadline;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * X-Request-Timeout 헤더(ms)가 있으면 요청 도착 시각 + 헤더 값을 요청 마감 시각으로 설정한다.
+ * 헤더가 없거나 올바르지 않으면 마감 시각 없이 처리한다. (유저 락 대기는 point.lock.max-wait-millis 로 따로 제한된다)
+ */
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        long arrival = System.nanoTime();
+        String timeout = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (timeout != null) {
+            try {
+                long timeoutMillis = Long.parseLong(timeout.trim());
+                if (timeoutMillis > 0) {
+                    RequestDeadline.set(arrival + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+                }
+            } catch (NumberFormatException ignored) {
+                // 마감 시각 없이 처리한다.
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리로 넘어가면 요청 스레드는 다른 요청을 처리하므로 여기서 지운다.
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+}
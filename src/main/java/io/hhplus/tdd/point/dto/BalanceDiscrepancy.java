@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 잔고 불일치 내역
+ * - balance : 저장된 잔고
+ * - expected : 히스토리로 계산한 잔고 (충전 합계 - 사용 합계)
+ * - repaired : expected 로 바로잡았는지 여부
+ */
+public record BalanceDiscrepancy(
+        long userId,
+        long balance,
+        long expected,
+        boolean repaired
+) {
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.command.PointBatchItem;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.error.ErrorCodeEnu;
+
+/**
+ * 일괄 충전/사용 요청 1건의 처리 결과 (요청 순서와 같은 순서로 반환)
+ * - 성공 시 userPoint, 실패 시 errorCode(PointErrorCode 이름) / message
+ */
+public record PointBatchResult(
+        Long userId,
+        Long amount,
+        TransactionType type,
+        boolean success,
+        UserPoint userPoint,
+        String errorCode,
+        String message
+) {
+
+    public static PointBatchResult success(PointBatchItem item, UserPoint userPoint) {
+        return new PointBatchResult(item.userId(), item.amount(), item.type(), true, userPoint, null, null);
+    }
+
+    public static PointBatchResult failure(PointBatchItem item, BusinessException e) {
+        return failure(item, e.getErrorCode());
+    }
+
+    public static PointBatchResult failure(PointBatchItem item, ErrorCodeEnu errorCode) {
+        return new PointBatchResult(item.userId(), item.amount(), item.type(), false, null,
+                String.valueOf(errorCode), errorCode.getMsg());
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.enumtype.SummaryGranularity;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 유저 포인트 내역 요약
+ * - buckets : 조회 기간에 걸친 집계 구간 (시작 시각 오름차순, 내역이 없는 구간은 빠진다)
+ * - totals : buckets 전체의 거래 종류별 합계
+ */
+public record PointHistorySummary(
+        long userId,
+        SummaryGranularity granularity,
+        List<PointSummaryBucket> buckets,
+        Map<TransactionType, PointTypeTotal> totals
+) {
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.enumtype.TransactionType;
+
+import java.util.Map;
+
+/**
+ * 포인트 내역 요약의 집계 구간 하나
+ * - startMillis : 구간 시작 시각 (epoch millis)
+ * - totals : 거래 종류별 합계 (내역이 없는 종류는 빠진다)
+ */
+public record PointSummaryBucket(
+        long startMillis,
+        Map<TransactionType, PointTypeTotal> totals
+) {
+}
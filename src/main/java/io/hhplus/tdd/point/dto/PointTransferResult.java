@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 포인트 전송 결과 (전송 후 보낸 유저와 받은 유저의 잔고)
+ */
+public record PointTransferResult(
+        UserPoint sender,
+        UserPoint receiver
+) {
+}
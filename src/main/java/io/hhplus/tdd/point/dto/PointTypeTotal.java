@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 거래 종류 하나의 합계
+ * - amount : 금액 합계
+ * - count : 건수
+ */
+public record PointTypeTotal(
+        long amount,
+        long count
+) {
+}
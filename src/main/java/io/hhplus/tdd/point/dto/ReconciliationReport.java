@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+/**
+ * 잔고 정합성 검사 결과
+ * - full : 체크포인트를 무시하고 전체 히스토리로 다시 계산했는지 여부
+ * - checkedUsers : 검사한 유저 수 (체크포인트 이후 히스토리가 없는 유저는 제외)
+ * - scannedHistories : 이번 검사에서 읽은 히스토리 수
+ * - skippedUsers : 처리 중인 요청이 있어 다음 검사로 미룬 유저 수
+ * - discrepancyCount : 불일치 유저 수 (discrepancies 는 최대 건수까지만 담는다)
+ */
+public record ReconciliationReport(
+        boolean full,
+        long checkedUsers,
+        long scannedHistories,
+        long skippedUsers,
+        long discrepancyCount,
+        long repairedUsers,
+        List<BalanceDiscrepancy> discrepancies,
+        long elapsedMillis
+) {
+}
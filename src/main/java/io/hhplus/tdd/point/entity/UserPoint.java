@@ -1,15 +1,25 @@
 package io.hhplus.tdd.point.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * version : 잔고가 변경될 때마다 1씩 증가 (낙관적 동시성 제어에 사용, 응답에는 포함하지 않는다)
+ */
 public record UserPoint(
         long id,
         long point,
-        long updateMillis
+        long updateMillis,
+        @JsonIgnore long version
 ) {
 
+    public UserPoint(long id, long point, long updateMillis) {
+        this(id, point, updateMillis, 0);
+    }
+
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
     public UserPoint changePoint(long amount) {
-        return new UserPoint(id, amount, System.currentTimeMillis());
+        return new UserPoint(id, amount, System.currentTimeMillis(), version + 1);
     }
 }
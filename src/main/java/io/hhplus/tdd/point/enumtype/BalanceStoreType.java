@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.enumtype;
+
+
+/**
+ * 포인트 잔고 저장소 종류
+ * - TABLE : UserPointTable 에 저장 (앞단에 잔고 캐시 사용)
+ * - PRIMITIVE : 박싱 없는 open-addressing 맵(LongPointMap)에 저장 (offHeap 설정 시 direct buffer 사용)
+ * - DURABLE : PRIMITIVE 에 변경 로그와 스냅샷을 더해 재시작 시 복구
+ */
+public enum BalanceStoreType {
+    TABLE, PRIMITIVE, DURABLE
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.enumtype;
+
+
+/**
+ * 포인트 히스토리 저장소 종류
+ * - TABLE : PointHistoryTable 에 저장 (재시작 시 사라짐)
+ * - MAPPED : 메모리 매핑된 append-only 로그 파일에 저장 (재시작 시 복구)
+ * - COLUMNAR : 컬럼별 primitive 배열에 저장 (PointHistory 객체를 보관하지 않아 메모리를 적게 쓰며, 재시작 시 사라짐)
+ */
+public enum HistoryStoreType {
+    TABLE, MAPPED, COLUMNAR
+}
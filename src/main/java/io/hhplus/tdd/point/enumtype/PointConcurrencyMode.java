@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.enumtype;
+
+
+/**
+ * 포인트 충전/사용 동시성 제어 방식
+ * - LOCK : 유저별 락을 잡고 처리
+ * - OPTIMISTIC : 락 없이 처리하고, 저장 시 version 이 바뀌었으면 다시 시도
+ * - PARTITIONED : 유저 id 로 나눈 파티션의 전담 스레드가 해당 유저의 충전/사용을 모두 처리 (락 없음, PRIMITIVE 또는 DURABLE 잔고 저장소 필요)
+ * OPTIMISTIC 의 전송과 PARTITIONED 의 다른 파티션끼리의 전송은 두 잔고를 함께 반영할 수 없으므로 거부한다. (PointService.transferPoint 참고)
+ */
+public enum PointConcurrencyMode {
+    LOCK, OPTIMISTIC, PARTITIONED
+}
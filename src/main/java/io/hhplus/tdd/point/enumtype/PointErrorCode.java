@@ -13,7 +13,21 @@ public enum PointErrorCode implements ErrorCodeEnu {
     INVALID_USER_ID(HttpStatus.BAD_REQUEST, "사용자 ID가 유효하지 않습니다."),
     INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "금액이 유효하지 않습니다."),
     INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "잔고가 부족합니다."),
-    MAX_BALANCE_EXCEEDED(HttpStatus.BAD_REQUEST, "잔고가 최대 한도를 초과했습니다.");
+    MAX_BALANCE_EXCEEDED(HttpStatus.BAD_REQUEST, "잔고가 최대 한도를 초과했습니다."),
+    CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "동시에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_TRANSACTION_TYPE(HttpStatus.BAD_REQUEST, "거래 종류가 유효하지 않습니다."),
+    INVALID_BATCH_SIZE(HttpStatus.BAD_REQUEST, "일괄 처리 건수가 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "조회 커서가 유효하지 않습니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "조회 건수가 유효하지 않습니다."),
+    INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 유효하지 않습니다."),
+    RECONCILIATION_IN_PROGRESS(HttpStatus.CONFLICT, "잔고 정합성 검사가 이미 실행 중입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "멱등성 키가 유효하지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 멱등성 키입니다."),
+    INVALID_TRANSFER_RECEIVER(HttpStatus.BAD_REQUEST, "받는 유저가 유효하지 않습니다."),
+    TRANSFER_NOT_SUPPORTED(HttpStatus.UNPROCESSABLE_ENTITY, "현재 동시성 모드에서는 두 유저의 잔고를 함께 바꿀 수 없어 전송할 수 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    USER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "같은 유저의 요청이 밀려 있어 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "에러가 발생했습니다.");
     private final HttpStatus status;
     private final String msg;
 
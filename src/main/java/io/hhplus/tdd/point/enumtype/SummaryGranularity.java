@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.enumtype;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 포인트 내역 요약 집계 단위
+ * - 집계 구간의 시작 시각은 설정한 시간대 기준으로 자른다. (DAY 는 자정, MONTH 는 1일 자정)
+ */
+public enum SummaryGranularity {
+    HOUR, DAY, MONTH;
+
+    /**
+     * millis 가 속한 구간의 시작 시각 (epoch millis)
+     */
+    public long bucketStart(long millis, ZoneId zone) {
+        ZonedDateTime time = Instant.ofEpochMilli(millis).atZone(zone);
+        ZonedDateTime start = switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+        return start.toInstant().toEpochMilli();
+    }
+}
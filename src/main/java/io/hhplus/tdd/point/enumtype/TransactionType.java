@@ -5,7 +5,24 @@ package io.hhplus.tdd.point.enumtype;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER_OUT : 다른 유저에게 보냄
+ * - TRANSFER_IN : 다른 유저에게서 받음
+ * 히스토리 로그에 순서(ordinal)로 기록하므로 새 종류는 끝에 추가한다.
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, TRANSFER_OUT, TRANSFER_IN;
+
+    /**
+     * 잔고를 늘리는 거래인지 여부
+     */
+    public boolean isCredit() {
+        return this == CHARGE || this == TRANSFER_IN;
+    }
+
+    /**
+     * 전송 거래인지 여부 (전송 종류는 충전/사용 요청으로 지정할 수 없고 전송으로만 만들어진다)
+     */
+    public boolean isTransfer() {
+        return this == TRANSFER_OUT || this == TRANSFER_IN;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.enumtype;
+
+
+/**
+ * 유저 락 관리 방식
+ * - REF_COUNTED : 유저별 락을 사용 중인 스레드 수를 세어, 아무도 쓰지 않으면 제거
+ * - STRIPED : 고정 개수의 락을 유저 id 해시로 나누어 사용 (서로 다른 유저가 같은 락을 공유할 수 있음)
+ */
+public enum UserLockType {
+    REF_COUNTED, STRIPED
+}
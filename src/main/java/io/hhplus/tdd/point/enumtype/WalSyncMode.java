@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.enumtype;
+
+
+/**
+ * 잔고 로그 디스크 기록 방식
+ * - EVERY_WRITE : 잔고가 바뀔 때마다 디스크에 강제 기록 (장비 장애에도 유실 없음, 느림)
+ * - INTERVAL : 주기적으로 강제 기록 (프로세스 종료에는 유실 없음, 장비 장애 시 마지막 주기만큼 유실 가능)
+ */
+public enum WalSyncMode {
+    EVERY_WRITE, INTERVAL
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 일괄 충전/사용 전용 실행기
+ * - 항목 처리는 대부분 테이블 대기(항목당 약 0.5초)이므로 CPU 코어 수보다 훨씬 많은 스레드를 둔다.
+ * - applicationTaskExecutor 와 나누어 쓰지 않으므로, 큰 일괄 요청이 다른 비동기 작업을 밀어내지 않는다.
+ * - Executor 를 구현하지 않는다. (Executor 빈이 생기면 applicationTaskExecutor 자동 설정이 빠진다)
+ */
+@Component
+public class PointBatchExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "point-batch-";
+
+    private final Executor executor;
+    // 직접 만든 실행기 (종료 시 함께 정리한다)
+    private final Executor ownedExecutor;
+
+    /**
+     * 전용 실행 스레드를 만든다. (가상 스레드 모드에서는 작업마다 가상 스레드, 아니면 threads 개의 플랫폼 스레드)
+     */
+    @Autowired
+    public PointBatchExecutor(PointBatchProperties properties, Environment environment) {
+        this.executor = createExecutor(properties, environment);
+        this.ownedExecutor = executor;
+    }
+
+    /**
+     * 주어진 실행기에서 작업을 실행한다. (실행기 종료는 호출하는 쪽에서 관리한다)
+     */
+    public PointBatchExecutor(Executor executor) {
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+
+    private static Executor createExecutor(PointBatchProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+            virtualThreads.setVirtualThreads(true);
+            return virtualThreads;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(Math.max(properties.threads(), 1), threadFactory);
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (ownedExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        } else if (ownedExecutor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.config.AsyncPointProperties;
+import io.hhplus.tdd.point.config.UserLockProperties;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 유저별로 작업을 순서대로 하나씩 실행하는 실행기 (actor 방식)
+ * - 유저마다 작업 대기열(mailbox)을 두고, 대기열에 처음 작업이 들어올 때만 실행 스레드에 대기열 실행을 맡긴다.
+ * - 한 유저의 작업은 항상 하나씩 들어온 순서대로 실행되고, 서로 다른 유저의 작업은 병렬로 실행된다.
+ * - 대기열은 CAS 로만 관리하며 락을 잡지 않는다. 작업을 기다리는 스레드도 없다. (결과는 CompletableFuture 로 전달)
+ * - 대기열이 비면 mailbox 를 닫고 제거하므로, 유저 수만큼 mailbox 가 쌓이지 않는다.
+ * - 대기열은 전용 실행 스레드에서 실행한다. 락을 기다리는 작업이 applicationTaskExecutor 를 차지하지 않는다.
+ * - 유저 한 명의 대기 중이거나 실행 중인 작업이 maxQueueDepth(point.lock.max-queue-depth) 이상이면
+ *   대기열에 넣지 않고 USER_BUSY 로 실패한 결과를 바로 반환한다. (동기 API 의 락 대기 제한과 같은 값을 쓴다)
+ */
+@Component
+public class UserSerialExecutor implements MeterBinder {
+
+    // 닫힌 mailbox 의 pending 값 (맵에서 제거되는 중이므로 새 mailbox 를 만들어야 한다)
+    private static final int CLOSED = -1;
+    // 작업 수가 maxQueueDepth 에 이르러 넣지 못한 경우의 retain 결과
+    private static final int FULL = -2;
+
+    private static final String THREAD_NAME_PREFIX = "point-async-";
+
+    private final Executor executor;
+    private final int throughput;
+    // 0 이면 제한하지 않는다.
+    private final int maxQueueDepth;
+    // 직접 만든 실행기 (종료 시 함께 정리한다)
+    private final Executor ownedExecutor;
+
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * 전용 실행 스레드를 만든다. (가상 스레드 모드에서는 작업마다 가상 스레드, 아니면 threads 개의 플랫폼 스레드)
+     */
+    @Autowired
+    public UserSerialExecutor(AsyncPointProperties properties, UserLockProperties lockProperties, Environment environment) {
+        this(createExecutor(properties, environment), properties, lockProperties.maxQueueDepth(), true);
+    }
+
+    /**
+     * 주어진 실행기에서 작업을 실행한다. (실행기 종료는 호출하는 쪽에서 관리하며, 유저별 작업 수는 제한하지 않는다)
+     */
+    public UserSerialExecutor(Executor executor, AsyncPointProperties properties) {
+        this(executor, properties, 0, false);
+    }
+
+    /**
+     * 주어진 실행기에서 작업을 실행하고, 유저별 작업 수를 maxQueueDepth 까지로 제한한다.
+     */
+    public UserSerialExecutor(Executor executor, AsyncPointProperties properties, int maxQueueDepth) {
+        this(executor, properties, maxQueueDepth, false);
+    }
+
+    private UserSerialExecutor(Executor executor, AsyncPointProperties properties, int maxQueueDepth, boolean owned) {
+        this.executor = executor;
+        this.throughput = Math.max(properties.throughput(), 1);
+        this.maxQueueDepth = Math.max(maxQueueDepth, 0);
+        this.ownedExecutor = owned ? executor : null;
+    }
+
+    private static Executor createExecutor(AsyncPointProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+            virtualThreads.setVirtualThreads(true);
+            return virtualThreads;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(Math.max(properties.threads(), 1), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (ownedExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        } else if (ownedExecutor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 유저의 대기열에 작업을 넣고, 작업 결과를 받을 CompletableFuture 를 바로 반환한다.
+     * 유저의 작업 수가 maxQueueDepth 에 이르렀으면 작업을 넣지 않고 USER_BUSY 로 실패한 결과를 반환한다.
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable command = () -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(userId, Mailbox::new);
+            int pending = mailbox.retain();
+            if (pending == CLOSED) {
+                // 닫힌 mailbox 가 맵에서 제거될 때까지 잠시 기다렸다가 새 mailbox 를 만든다.
+                Thread.onSpinWait();
+                continue;
+            }
+            if (pending == FULL) {
+                rejected.incrementAndGet();
+                return CompletableFuture.failedFuture(new BusinessException(PointErrorCode.USER_BUSY));
+            }
+            queued.incrementAndGet();
+            mailbox.tasks.add(command);
+            if (pending == 0) {
+                schedule(mailbox);
+            }
+            return result;
+        }
+    }
+
+    public int activeUsers() {
+        return mailboxes.size();
+    }
+
+    public long queuedTasks() {
+        return queued.get();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        executor.execute(mailbox::drain);
+    }
+
+    /**
+     * 비동기 실행기 지표
+     * - point.async.users : 대기 중이거나 실행 중인 작업이 있는 유저 수
+     * - point.async.queued : 대기 중이거나 실행 중인 작업 수
+     * - point.async.shed : 유저별 작업 수 제한으로 넣지 못한 작업 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.async.users", this, UserSerialExecutor::activeUsers)
+                .description("작업이 남아 있는 유저 수")
+                .register(registry);
+        Gauge.builder("point.async.queued", this, UserSerialExecutor::queuedTasks)
+                .description("대기 중이거나 실행 중인 작업 수")
+                .register(registry);
+        FunctionCounter.builder("point.async.shed", rejected, AtomicLong::get)
+                .description("유저별 작업 수 제한으로 실패한 요청 수")
+                .register(registry);
+    }
+
+    private final class Mailbox {
+
+        private final long userId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // 넣었지만 아직 끝나지 않은 작업 수 (0 -> 1 로 바꾼 스레드가 실행을 맡긴다)
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 작업 수를 1 늘리고 이전 값을 반환한다. 닫힌 mailbox 이면 CLOSED, 작업 수가 maxQueueDepth 이상이면 FULL 을 반환한다.
+         */
+        private int retain() {
+            while (true) {
+                int current = pending.get();
+                if (current == CLOSED) {
+                    return CLOSED;
+                }
+                if (maxQueueDepth > 0 && current >= maxQueueDepth) {
+                    return FULL;
+                }
+                if (pending.compareAndSet(current, current + 1)) {
+                    return current;
+                }
+            }
+        }
+
+        private void drain() {
+            for (int executed = 0; executed < throughput; executed++) {
+                Runnable task;
+                // 작업 수를 늘린 뒤 대기열에 넣기 전이면 잠시 비어 있을 수 있다.
+                while ((task = tasks.poll()) == null) {
+                    Thread.onSpinWait();
+                }
+                task.run();
+                queued.decrementAndGet();
+                if (pending.decrementAndGet() == 0) {
+                    // 그 사이 들어온 작업이 없으면 닫고 제거한다. (들어왔다면 넣은 스레드가 다시 실행을 맡긴다)
+                    if (pending.compareAndSet(0, CLOSED)) {
+                        mailboxes.remove(userId, this);
+                    }
+                    return;
+                }
+            }
+            // 남은 작업은 다시 실행 대기시켜 다른 유저에게도 실행 스레드를 양보한다.
+            schedule(this);
+        }
+    }
+}
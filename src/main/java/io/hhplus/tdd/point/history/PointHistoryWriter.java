@@ -0,0 +1,274 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리 비동기 저장 파이프라인
+ * - 충전/사용 시 잔고 갱신만 락 안에서 처리하고, 히스토리 저장(최대 300ms)은 워커 스레드로 넘긴다.
+ * - 같은 유저의 히스토리는 항상 같은 파티션(단일 워커)으로 들어가므로 저장 순서가 보장된다.
+ * - 대기열이 가득 차면 append 호출 스레드가 offerTimeoutMillis 까지 대기하고, 그래도 자리가 없으면
+ *   대기열에 남은 같은 유저의 히스토리가 모두 저장될 때까지 기다린 뒤 호출 스레드에서 바로 저장한다. (유저별 순서는 항상 지켜진다)
+ * - append 가 반환된 히스토리는 파이프라인이 책임지고 저장한다. 워커의 저장이 실패하면 성공할 때까지 다시 시도하고
+ *   (뒤의 히스토리는 그동안 기다린다), 종료 시 남은 히스토리를 모두 저장한다.
+ * - 대기열은 메모리에만 있으므로, 비정상 종료 시 아직 저장되지 않은 히스토리는 사라진다. (정합성 검사가 불일치로 찾는다)
+ * - 파티션마다 넣은 순서대로 번호(seq)를 붙이고, flush 는 그 유저의 마지막 번호가 저장될 때까지만 기다린다.
+ */
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private static final int MAX_ATTEMPTS_ON_CLOSE = 3;
+    private static final long MAX_RETRY_DELAY_MILLIS = 1000;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final HistoryWriteBehindProperties properties;
+    private final Partition[] partitions;
+
+    public PointHistoryWriter(PointHistoryRepository pointHistoryRepository,
+                              HistoryWriteBehindProperties properties) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.properties = properties;
+        this.partitions = new Partition[properties.enabled() ? properties.partitions() : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, properties.queueCapacity());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Partition partition : partitions) {
+            partition.worker.start();
+        }
+    }
+
+    /**
+     * 히스토리를 저장 대기열에 넣는다.
+     * 비활성화 상태이거나 종료 중이거나 대기열이 offerTimeoutMillis 동안 가득 차 있으면 호출 스레드에서 바로 저장한다.
+     * 이때 대기열에 남은 같은 유저의 히스토리를 먼저 저장하도록 기다리므로, 바로 저장해도 순서가 뒤바뀌지 않는다.
+     * (같은 유저의 append 는 유저 락, 파티션 스레드, compareAndSet 콜백 중 하나로 차례로 호출된다)
+     */
+    public void append(PointHistory pointHistory) {
+        if (partitions.length == 0) {
+            pointHistoryRepository.save(pointHistory);
+            return;
+        }
+        if (!partitionOf(pointHistory.userId()).offer(pointHistory)) {
+            flush(pointHistory.userId());
+            pointHistoryRepository.save(pointHistory);
+        }
+    }
+
+    /**
+     * 해당 유저가 지금까지 넣은 히스토리가 모두 저장될 때까지 대기한다.
+     * 조회 직전에 호출하여 자신이 남긴 히스토리를 읽을 수 있도록 한다.
+     */
+    public void flush(long userId) {
+        if (partitions.length == 0) {
+            return;
+        }
+        Partition partition = partitionOf(userId);
+        Long seq = partition.lastSeqByUser.get(userId);
+        if (seq != null) {
+            partition.awaitWritten(seq);
+        }
+    }
+
+    /**
+     * 모든 파티션에 지금까지 들어온 히스토리가 저장될 때까지 대기한다.
+     */
+    public void flush() {
+        for (Partition partition : partitions) {
+            partition.awaitWritten(partition.enqueued);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 이후의 append 는 호출 스레드에서 저장하므로, 워커가 끝난 뒤 대기열에 남는 히스토리가 없다.
+        for (Partition partition : partitions) {
+            partition.close();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.shutdownTimeoutMillis());
+        for (Partition partition : partitions) {
+            try {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                partition.worker.join(Math.max(remaining, 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!partition.queue.isEmpty()) {
+                log.error("포인트 히스토리 {}건을 종료 시간 내에 저장하지 못했습니다. (partition={})",
+                        partition.queue.size(), partition.index);
+            }
+        }
+    }
+
+    private Partition partitionOf(long userId) {
+        return partitions[Math.floorMod(Long.hashCode(userId), partitions.length)];
+    }
+
+    private record Entry(long seq, PointHistory pointHistory) {
+    }
+
+    private final class Partition {
+
+        private final int index;
+        private final BlockingQueue<Entry> queue;
+        private final Thread worker;
+
+        /**
+         * 번호 부여와 대기열 삽입을 한 번에 처리하여, 대기열 순서 = 번호 순서가 되도록 한다. (종료 여부 확인도 이 락 안에서 한다)
+         */
+        private final ReentrantLock appendLock = new ReentrantLock();
+        private volatile long enqueued;
+        private boolean accepting = true;
+
+        /**
+         * 유저별로 아직 저장되지 않은 마지막 번호 (저장되면 제거되므로 대기열 크기를 넘지 않는다)
+         */
+        private final ConcurrentMap<Long, Long> lastSeqByUser = new ConcurrentHashMap<>();
+
+        private final ReentrantLock writtenLock = new ReentrantLock();
+        private final Condition writtenCondition = writtenLock.newCondition();
+        private volatile long written;
+        private volatile int waiters;
+
+        private volatile boolean running = true;
+
+        private Partition(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::run, "point-history-writer-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        /**
+         * 대기열에 넣지 못하면(종료 중, 대기 시간 초과) false
+         */
+        private boolean offer(PointHistory pointHistory) {
+            appendLock.lock();
+            try {
+                if (!accepting) {
+                    return false;
+                }
+                Entry entry = new Entry(enqueued + 1, pointHistory);
+                if (!queue.offer(entry, properties.offerTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("포인트 히스토리 대기열이 가득 차 호출 스레드에서 저장합니다. (partition={})", index);
+                    return false;
+                }
+                enqueued = entry.seq();
+                lastSeqByUser.merge(pointHistory.userId(), entry.seq(), Math::max);
+                // 기록하기 전에 워커가 이미 저장했다면 직접 지운다. (워커는 written 을 먼저 바꾼 뒤 지우므로 둘 중 하나는 지운다)
+                if (written >= entry.seq()) {
+                    lastSeqByUser.remove(pointHistory.userId(), entry.seq());
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        private void close() {
+            appendLock.lock();
+            try {
+                accepting = false;
+            } finally {
+                appendLock.unlock();
+            }
+            running = false;
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Entry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (entry != null) {
+                        write(entry);
+                    }
+                } catch (InterruptedException e) {
+                    // 종료 요청이 아니라면 대기열이 빌 때까지 계속 처리한다.
+                }
+            }
+        }
+
+        /**
+         * 저장에 성공할 때까지 다시 시도한다. (실패한 히스토리를 건너뛰면 같은 유저의 다음 히스토리가 먼저 저장된다)
+         * 종료 중에는 MAX_ATTEMPTS_ON_CLOSE 번까지만 시도하고 포기한다.
+         */
+        private void write(Entry entry) {
+            try {
+                for (int attempt = 1; ; attempt++) {
+                    try {
+                        pointHistoryRepository.save(entry.pointHistory());
+                        return;
+                    } catch (RuntimeException e) {
+                        if (!running && attempt >= MAX_ATTEMPTS_ON_CLOSE) {
+                            log.error("포인트 히스토리를 저장하지 못했습니다. {}", entry.pointHistory(), e);
+                            return;
+                        }
+                        log.warn("포인트 히스토리 저장에 실패하여 다시 시도합니다. (attempt={}) {}", attempt, entry.pointHistory(), e);
+                        pause(attempt);
+                    }
+                }
+            } finally {
+                written = entry.seq();
+                lastSeqByUser.computeIfPresent(entry.pointHistory().userId(), (userId, seq) -> seq <= entry.seq() ? null : seq);
+                if (waiters > 0) {
+                    writtenLock.lock();
+                    try {
+                        writtenCondition.signalAll();
+                    } finally {
+                        writtenLock.unlock();
+                    }
+                }
+            }
+        }
+
+        private void pause(int attempt) {
+            try {
+                Thread.sleep(Math.min(MAX_RETRY_DELAY_MILLIS, 10L << Math.min(attempt - 1, 10)));
+            } catch (InterruptedException e) {
+                // 종료 요청이라면 running 이 false 가 되어 시도 횟수가 제한된다.
+            }
+        }
+
+        /**
+         * seq 번 히스토리가 저장될 때까지 대기한다. (대기열 순서대로 저장하므로 written 이 seq 이상이면 저장된 것이다)
+         */
+        private void awaitWritten(long seq) {
+            if (written >= seq) {
+                return;
+            }
+            writtenLock.lock();
+            waiters++;
+            try {
+                while (written < seq && worker.isAlive()) {
+                    // 워커가 종료된 경우를 확인하기 위해 주기적으로 깨어난다.
+                    writtenCondition.await(100, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiters--;
+                writtenLock.unlock();
+            }
+        }
+    }
+}
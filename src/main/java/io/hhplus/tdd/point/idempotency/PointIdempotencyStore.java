@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.IdempotencyProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.repository.support.ExpiringMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 멱등성 키 결과 저장소
+ * - (유저 id, 멱등성 키) 별로 처음 요청의 결과(UserPoint)를 보관하고, 같은 키로 다시 요청하면 처리하지 않고 그 결과를 반환한다.
+ * - 유저 락을 잡기 전에 확인하므로, 재시도 요청은 락을 기다리지 않는다.
+ * - 처음 요청이 아직 처리 중이면 그 결과를 기다렸다가 반환한다. (같은 키로 두 번 처리하지 않는다)
+ * - 처음 요청이 실패하면 결과를 보관하지 않으므로, 같은 키로 다시 요청하면 새로 처리한다.
+ * - 같은 키를 다른 거래 종류나 금액에 사용하면 IDEMPOTENCY_KEY_REUSED 예외를 던진다.
+ */
+@Component
+public class PointIdempotencyStore implements MeterBinder {
+
+    private final ExpiringMap<Key, Execution> executions;
+    private final LongAdder replays = new LongAdder();
+
+    public PointIdempotencyStore(IdempotencyProperties properties) {
+        this.executions = new ExpiringMap<>(properties.maxEntries(), properties.ttlMillis());
+    }
+
+    /**
+     * 같은 키로 처리한 결과가 있으면 반환하고, 없으면 action 을 실행하여 결과를 보관한다.
+     */
+    public UserPoint execute(UserPointCommand command, TransactionType type, Supplier<UserPoint> action) {
+        Key key = new Key(command.id(), command.idempotencyKey());
+        Execution execution = new Execution(type, command.amount(), new CompletableFuture<>());
+        Execution previous = executions.putIfAbsent(key, execution);
+        if (previous != null) {
+            if (previous.type() != type || previous.amount() != command.amount()) {
+                throw new BusinessException(PointErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            replays.increment();
+            return await(previous.result());
+        }
+
+        try {
+            UserPoint userPoint = action.get();
+            execution.result().complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            executions.remove(key, execution);
+            execution.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // 처음 요청과 같은 예외를 던진다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int size() {
+        return executions.size();
+    }
+
+    /**
+     * 멱등성 키 지표
+     * - point.idempotency.replays : 같은 키로 다시 요청하여 보관된 결과를 반환한 횟수
+     * - point.idempotency.evictions : 보관 시간 전에 최대 키 수를 넘어 제거된 키 수
+     * - point.idempotency.size : 보관 중인 키 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.idempotency.replays", replays, LongAdder::sum)
+                .description("보관된 결과를 반환한 재시도 요청 수")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.evictions", executions, ExpiringMap::evictionCount)
+                .description("최대 키 수를 넘어 제거된 멱등성 키 수")
+                .register(registry);
+        Gauge.builder("point.idempotency.size", executions, ExpiringMap::size)
+                .description("보관 중인 멱등성 키 수")
+                .register(registry);
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record Execution(TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+    }
+}
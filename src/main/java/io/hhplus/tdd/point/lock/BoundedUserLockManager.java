@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 대기를 제한하는 유저 락 관리자
+ * - 락을 기다리거나 잡고 있는 요청이 maxQueueDepth 이상이면 기다리지 않고 바로 실패한다.
+ * - 락은 최대 maxWait 까지, 요청 마감 시각(RequestDeadline)이 있으면 그보다 먼저 끝나도록 기다린다.
+ * - 획득하지 못하면 USER_BUSY 예외를 던진다. (클라이언트가 이미 포기한 요청을 늦게 처리하지 않는다)
+ * - tryAcquire 는 제한 없이 그대로 위임한다. (기다리지 않으므로)
+ *
+ * 지표 : point.lock.shed (reason=queue_full|timeout) 제한에 걸려 실패한 요청 수
+ */
+public class BoundedUserLockManager implements UserLockManager {
+
+    private final UserLockManager delegate;
+    // 0 이면 제한하지 않는다.
+    private final long maxWaitNanos;
+    private final int maxQueueDepth;
+    private final Counter queueFull;
+    private final Counter timeouts;
+
+    public BoundedUserLockManager(UserLockManager delegate, long maxWaitMillis, int maxQueueDepth, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.maxQueueDepth = maxQueueDepth;
+        this.queueFull = Counter.builder("point.lock.shed")
+                .description("유저 락 대기 제한으로 실패한 요청 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("point.lock.shed")
+                .description("유저 락 대기 제한으로 실패한 요청 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserLock acquire(long userId) {
+        if (maxQueueDepth > 0 && delegate.queueLength(userId) >= maxQueueDepth) {
+            queueFull.increment();
+            throw new BusinessException(PointErrorCode.USER_BUSY);
+        }
+
+        long now = System.nanoTime();
+        OptionalLong deadline = deadline(now);
+        if (deadline.isEmpty()) {
+            return delegate.acquire(userId);
+        }
+        long remaining = deadline.getAsLong() - now;
+        UserLock lock = remaining > 0 ? delegate.tryAcquire(userId, remaining, TimeUnit.NANOSECONDS) : null;
+        if (lock == null) {
+            timeouts.increment();
+            throw new BusinessException(PointErrorCode.USER_BUSY);
+        }
+        return lock;
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId) {
+        return delegate.tryAcquire(userId);
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId, long timeout, TimeUnit unit) {
+        return delegate.tryAcquire(userId, timeout, unit);
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        return delegate.queueLength(userId);
+    }
+
+    @Override
+    public long lockOrder(long userId) {
+        return delegate.lockOrder(userId);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * 최대 대기 시간과 요청 마감 시각 중 빠른 쪽 (둘 다 없으면 empty)
+     */
+    private OptionalLong deadline(long now) {
+        OptionalLong requestDeadline = RequestDeadline.current();
+        if (maxWaitNanos <= 0) {
+            return requestDeadline;
+        }
+        long lockDeadline = now + maxWaitNanos;
+        if (requestDeadline.isPresent() && requestDeadline.getAsLong() - lockDeadline < 0) {
+            return requestDeadline;
+        }
+        return OptionalLong.of(lockDeadline);
+    }
+}
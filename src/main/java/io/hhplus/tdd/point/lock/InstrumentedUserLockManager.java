@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 대기/보유 시간을 측정하는 유저 락 관리자
+ * - point.lock.wait : 락 획득까지 기다린 시간
+ * - point.lock.hold : 락을 잡고 있던 시간
+ * - point.lock.contended : 바로 획득하지 못하고 기다린 횟수
+ * - point.lock.active : 현재 관리 중인 락 수
+ */
+public class InstrumentedUserLockManager implements UserLockManager {
+
+    private final UserLockManager delegate;
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Counter contended;
+
+    public InstrumentedUserLockManager(UserLockManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.lockWait = Timer.builder("point.lock.wait")
+                .description("유저 락 획득 대기 시간")
+                .register(meterRegistry);
+        this.lockHold = Timer.builder("point.lock.hold")
+                .description("유저 락 보유 시간")
+                .register(meterRegistry);
+        this.contended = Counter.builder("point.lock.contended")
+                .description("유저 락을 바로 획득하지 못한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("point.lock.active", delegate, UserLockManager::size)
+                .description("관리 중인 유저 락 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserLock acquire(long userId) {
+        long start = System.nanoTime();
+        UserLock lock = delegate.tryAcquire(userId);
+        if (lock == null) {
+            contended.increment();
+            lock = delegate.acquire(userId);
+        }
+        return held(lock, start);
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId) {
+        long start = System.nanoTime();
+        UserLock lock = delegate.tryAcquire(userId);
+        return lock == null ? null : held(lock, start);
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId, long timeout, TimeUnit unit) {
+        long start = System.nanoTime();
+        UserLock lock = delegate.tryAcquire(userId, timeout, unit);
+        return lock == null ? null : held(lock, start);
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        return delegate.queueLength(userId);
+    }
+
+    @Override
+    public long lockOrder(long userId) {
+        return delegate.lockOrder(userId);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    private UserLock held(UserLock lock, long start) {
+        long acquired = System.nanoTime();
+        lockWait.record(acquired - start, TimeUnit.NANOSECONDS);
+        return () -> {
+            lockHold.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+            lock.close();
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 참조 수를 세는 유저 락 관리자
+ * - 락을 기다리거나 잡고 있는 스레드 수를 유저별로 센다.
+ * - 참조 수 변경은 ConcurrentHashMap.compute 안에서만 일어나므로, 마지막 참조가 해제될 때 제거해도
+ *   다른 스레드가 제거된 락을 잡는 일이 없다.
+ */
+public class RefCountedUserLockManager implements UserLockManager {
+
+    private final ConcurrentMap<Long, Entry> locks = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    public RefCountedUserLockManager(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public UserLock acquire(long userId) {
+        Entry entry = retain(userId);
+        entry.lock.lock();
+        return () -> {
+            entry.lock.unlock();
+            release(userId);
+        };
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId) {
+        return tryAcquire(userId, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId, long timeout, TimeUnit unit) {
+        Entry entry = retain(userId);
+        if (!tryLock(entry.lock, timeout, unit)) {
+            release(userId);
+            return null;
+        }
+        return () -> {
+            entry.lock.unlock();
+            release(userId);
+        };
+    }
+
+    /**
+     * 참조 수 (락을 기다리거나 잡고 있는 스레드 수)
+     */
+    @Override
+    public int queueLength(long userId) {
+        Entry entry = locks.get(userId);
+        return entry == null ? 0 : entry.refs;
+    }
+
+    @Override
+    public int size() {
+        return locks.size();
+    }
+
+    /**
+     * tryLock() 은 공정성을 무시하고 끼어들 수 있으므로, 대기 시간을 지정하여 공정성을 지키며 시도한다.
+     */
+    static boolean tryLock(ReentrantLock lock, long timeout, TimeUnit unit) {
+        try {
+            return lock.tryLock(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Entry retain(long userId) {
+        return locks.compute(userId, (id, entry) -> {
+            Entry retained = entry == null ? new Entry(new ReentrantLock(fair)) : entry;
+            retained.refs++;
+            return retained;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (id, entry) -> --entry.refs == 0 ? null : entry);
+    }
+
+    private static final class Entry {
+
+        private final ReentrantLock lock;
+        // 변경은 compute 안에서만 하고, queueLength 는 락 없이 읽는다.
+        private volatile int refs;
+
+        private Entry(ReentrantLock lock) {
+            this.lock = lock;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 개수의 락을 나누어 쓰는 유저 락 관리자
+ * - 메모리 사용량이 유저 수와 무관하게 일정하다.
+ * - 같은 락을 공유하는 서로 다른 유저끼리는 함께 대기할 수 있다.
+ */
+public class StripedUserLockManager implements UserLockManager {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedUserLockManager(int stripes, boolean fair) {
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock(fair);
+        }
+    }
+
+    @Override
+    public UserLock acquire(long userId) {
+        ReentrantLock lock = stripeOf(userId);
+        lock.lock();
+        return lock::unlock;
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId) {
+        return tryAcquire(userId, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public UserLock tryAcquire(long userId, long timeout, TimeUnit unit) {
+        ReentrantLock lock = stripeOf(userId);
+        return RefCountedUserLockManager.tryLock(lock, timeout, unit) ? lock::unlock : null;
+    }
+
+    /**
+     * 같은 락을 공유하는 다른 유저의 요청도 함께 센다.
+     */
+    @Override
+    public int queueLength(long userId) {
+        ReentrantLock lock = stripeOf(userId);
+        return lock.getQueueLength() + (lock.isLocked() ? 1 : 0);
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    /**
+     * 유저 id 순서로 잡으면 서로 다른 유저가 같은 락을 공유할 때 교착 상태가 생길 수 있으므로, 락 번호 순서로 잡는다.
+     * (같은 락이면 ReentrantLock 이므로 두 번 잡아도 된다)
+     */
+    @Override
+    public long lockOrder(long userId) {
+        return stripeIndexOf(userId);
+    }
+
+    private ReentrantLock stripeOf(long userId) {
+        return stripes[stripeIndexOf(userId)];
+    }
+
+    private int stripeIndexOf(long userId) {
+        // 연속된 id 가 같은 락에 몰리지 않도록 해시를 섞는다.
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) stripes.length);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 획득한 유저 락
+ * try-with-resources 로 사용하며, close 시 락을 해제한다.
+ */
+@FunctionalInterface
+public interface UserLock extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 상호 배제를 위한 락 관리자
+ */
+public interface UserLockManager {
+
+    /**
+     * 해당 유저의 락을 획득할 때까지 대기한다.
+     */
+    UserLock acquire(long userId);
+
+    /**
+     * 해당 유저의 락을 바로 획득할 수 있을 때만 획득한다. (대기 중인 스레드가 있으면 null)
+     */
+    UserLock tryAcquire(long userId);
+
+    /**
+     * 해당 유저의 락을 timeout 까지 기다려 획득한다. (획득하지 못하면 null)
+     */
+    UserLock tryAcquire(long userId, long timeout, TimeUnit unit);
+
+    /**
+     * 해당 유저의 락을 기다리거나 잡고 있는 요청 수 (대략적인 값)
+     */
+    int queueLength(long userId);
+
+    /**
+     * 두 유저의 락을 모두 획득할 때까지 대기한다.
+     * 항상 lockOrder 가 작은 쪽부터 잡으므로, 두 유저를 서로 반대 순서로 잡는 요청끼리도 교착 상태가 생기지 않는다.
+     */
+    default UserLock acquireBoth(long userId, long otherUserId) {
+        boolean ordered = lockOrder(userId) < lockOrder(otherUserId)
+                || lockOrder(userId) == lockOrder(otherUserId) && userId <= otherUserId;
+        UserLock first = acquire(ordered ? userId : otherUserId);
+        try {
+            UserLock second = acquire(ordered ? otherUserId : userId);
+            return () -> {
+                second.close();
+                first.close();
+            };
+        } catch (RuntimeException e) {
+            first.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 락을 잡을 때의 획득 순서 (실제로 잡는 락이 같으면 같은 값)
+     */
+    default long lockOrder(long userId) {
+        return userId;
+    }
+
+    /**
+     * 현재 관리 중인 락 수
+     */
+    int size();
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.partition;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드만 꺼내는 크기 고정 링 버퍼 (multi-producer single-consumer)
+ * - 넣는 스레드는 tail 을 CAS 로 하나씩 차지한 뒤 그 칸에 기록하고, 칸의 sequence 를 바꿔 꺼낼 수 있음을 알린다.
+ * - 꺼내는 스레드는 하나뿐이므로 head 는 CAS 없이 갱신한다. (크기 조회를 위해 volatile)
+ * - 칸마다 sequence 를 두어, 다른 스레드가 아직 기록 중인 칸을 꺼내거나 아직 꺼내지 않은 칸에 덮어쓰지 않는다.
+ * - 락을 잡지 않으며, 가득 차면 offer 가 false 를 반환한다.
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    // 칸 i 의 sequence : 비어 있으면 다음에 기록할 위치, 기록이 끝났으면 위치 + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // 한 바퀴 전에 기록한 칸을 아직 꺼내지 않았다. (가득 참)
+                return false;
+            }
+            // 다른 스레드가 먼저 차지했으므로 다시 시도한다.
+        }
+    }
+
+    /**
+     * 꺼내는 스레드에서만 호출한다. 비어 있으면 null 을 반환한다.
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // 한 바퀴 뒤의 위치에 기록할 수 있도록 칸을 비운다.
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * 차지된 칸 수 (기록 중인 칸 포함, 다른 스레드에서 호출하면 근사값)
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point.partition;
+
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * (PARTITIONED) 유저 id 로 나눈 단일 스레드 파티션 실행기
+ * - 유저 id 를 해시하여 파티션 하나에 고정하고, 파티션의 전담 스레드만 그 유저들의 잔고를 변경한다. (single writer)
+ * - 명령은 파티션별 링 버퍼(MpscRingBuffer)로 전달하며, 넣고 꺼낼 때 락을 잡지 않는다.
+ * - 같은 유저의 명령은 넣은 순서대로 하나씩 처리되므로 잔고 변경에 락이 필요 없다.
+ * - 전담 스레드는 명령이 없으면 idleSpins 만큼 다시 확인한 뒤 잠들고, 명령을 넣은 스레드가 깨운다.
+ * - 링 버퍼가 가득 차면 넣는 스레드가 잠시씩 쉬며 다시 시도한다. (back-pressure)
+ *   offerTimeoutMillis 또는 요청 마감 시각(RequestDeadline) 중 빠른 쪽까지 넣지 못하면 USER_BUSY 로 실패한다.
+ * - 파티션 스레드가 테이블 I/O 로 멈추면 파티션의 모든 유저가 함께 밀리므로, TABLE 잔고 저장소와는 함께 쓰지 않는다.
+ *   (UserPointRepositoryConfig 가 거부한다. 히스토리는 write-behind 워커가 저장하고, 대기열이 가득 찬 경우에만 파티션 스레드에서 저장한다)
+ */
+@Slf4j
+@Component
+public class PointPartitionExecutor implements MeterBinder {
+
+    private final Partition[] partitions;
+    private final long offerTimeoutNanos;
+
+    public PointPartitionExecutor(PointPartitionProperties properties, PointConcurrencyProperties concurrencyProperties) {
+        int count = properties.count() > 0 ? properties.count() : Runtime.getRuntime().availableProcessors();
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.offerTimeoutMillis(), 0));
+        // PARTITIONED 모드가 아니면 스레드를 만들지 않는다.
+        this.partitions = new Partition[concurrencyProperties.mode() == PointConcurrencyMode.PARTITIONED ? count : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, properties.ringBufferSize(), properties.idleSpins());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Partition partition : partitions) {
+            partition.worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Partition partition : partitions) {
+            partition.running = false;
+            LockSupport.unpark(partition.worker);
+        }
+        for (Partition partition : partitions) {
+            try {
+                partition.worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 유저가 속한 파티션의 전담 스레드에서 task 를 실행한다.
+     * 링 버퍼가 offerTimeoutMillis(요청 마감 시각이 더 빠르면 그때)까지 가득 차 있으면 USER_BUSY 예외를 던진다.
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        if (partitions.length == 0) {
+            throw new IllegalStateException("PARTITIONED 모드가 아닙니다.");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        boolean offered = partitionOf(userId).offer(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, offerDeadline());
+        if (!offered) {
+            throw new BusinessException(PointErrorCode.USER_BUSY);
+        }
+        return result;
+    }
+
+    /**
+     * 두 유저가 같은 파티션(같은 전담 스레드)에 속하는지 여부
+     */
+    public boolean samePartition(long userId, long otherUserId) {
+        return partitions.length > 0 && partitionOf(userId) == partitionOf(otherUserId);
+    }
+
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * 파티션 지표
+     * - point.partition.queued (partition 태그) : 링 버퍼에 쌓인 명령 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Partition partition : partitions) {
+            Gauge.builder("point.partition.queued", partition.commands, MpscRingBuffer::size)
+                    .description("파티션 링 버퍼에 쌓인 명령 수")
+                    .tags(Tags.of("partition", String.valueOf(partition.index)))
+                    .register(registry);
+        }
+    }
+
+    private long offerDeadline() {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        OptionalLong requestDeadline = RequestDeadline.current();
+        return requestDeadline.isPresent() && requestDeadline.getAsLong() - deadline < 0 ? requestDeadline.getAsLong() : deadline;
+    }
+
+    private Partition partitionOf(long userId) {
+        // 연속된 id 가 한 파티션에 몰리지 않도록 섞은 뒤 나눈다.
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return partitions[(int) Math.floorMod(hash ^ (hash >>> 32), (long) partitions.length)];
+    }
+
+    private static final class Partition {
+
+        private final int index;
+        private final MpscRingBuffer<Runnable> commands;
+        private final int idleSpins;
+        private final Thread worker;
+
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+
+        private Partition(int index, int ringBufferSize, int idleSpins) {
+            this.index = index;
+            this.commands = new MpscRingBuffer<>(ringBufferSize);
+            this.idleSpins = idleSpins;
+            this.worker = new Thread(this::run, "point-partition-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        /**
+         * deadline(System.nanoTime 기준)까지 넣지 못하면 false 를 반환한다.
+         */
+        private boolean offer(Runnable command, long deadline) {
+            while (!commands.offer(command)) {
+                if (deadline - System.nanoTime() <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+            if (sleeping) {
+                LockSupport.unpark(worker);
+            }
+            return true;
+        }
+
+        private void run() {
+            int idle = 0;
+            while (running || commands.size() > 0) {
+                Runnable command = commands.poll();
+                if (command != null) {
+                    command.run();
+                    idle = 0;
+                } else if (idle++ < idleSpins) {
+                    Thread.onSpinWait();
+                } else {
+                    // 잠들기 전에 다시 확인하여, 그 사이 들어온 명령의 깨우기를 놓치지 않는다.
+                    sleeping = true;
+                    if (commands.size() == 0 && running) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                    idle = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import io.hhplus.tdd.point.config.RateLimitProperties;
+import io.hhplus.tdd.point.repository.support.ExpiringMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저별 + 전체 요청 수 제한
+ * - 유저별 토큰 버킷은 크기와 보관 시간이 제한된 맵에 보관한다. (유저 수가 많아도 메모리가 일정하다)
+ * - 유저 버킷을 먼저 검사하므로, 한 유저가 몰아서 보낸 요청이 전체 버킷의 토큰을 쓰지 않는다.
+ * - 버킷은 보관 시간이 지나면 새로 만들어지므로, 그때 burst 만큼 다시 허용된다.
+ */
+@Component
+public class PointRateLimiter implements MeterBinder {
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final ExpiringMap<Long, TokenBucket> userBuckets;
+    // 전체 제한이 없으면 null
+    private final TokenBucket globalBucket;
+
+    private final LongAdder userRejections = new LongAdder();
+    private final LongAdder globalRejections = new LongAdder();
+
+    @Autowired
+    public PointRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    public PointRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.userBuckets = new ExpiringMap<>(properties.maxUsers(), properties.ttlMillis(), nanoClock);
+        this.globalBucket = properties.globalPermitsPerSecond() > 0
+                ? new TokenBucket(properties.globalPermitsPerSecond(), properties.globalBurst(), nanoClock.getAsLong())
+                : null;
+    }
+
+    /**
+     * 요청 하나를 허용할지 검사한다.
+     * 허용하면 0, 거절하면 다시 요청할 수 있을 때까지 남은 시간(ns)을 반환한다.
+     *
+     * @param userId 요청 대상 유저 (유저를 지정하지 않는 요청은 null 로 전체 제한만 검사)
+     */
+    public long tryAcquire(Long userId) {
+        long now = nanoClock.getAsLong();
+        if (userId != null) {
+            long waitNanos = userBucket(userId, now).tryAcquire(now);
+            if (waitNanos > 0) {
+                userRejections.increment();
+                return waitNanos;
+            }
+        }
+        if (globalBucket != null) {
+            long waitNanos = globalBucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                globalRejections.increment();
+                return waitNanos;
+            }
+        }
+        return 0;
+    }
+
+    private TokenBucket userBucket(long userId, long now) {
+        TokenBucket bucket = userBuckets.get(userId);
+        if (bucket != null) {
+            return bucket;
+        }
+        TokenBucket created = new TokenBucket(properties.userPermitsPerSecond(), properties.userBurst(), now);
+        TokenBucket existing = userBuckets.putIfAbsent(userId, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * 요청 수 제한 지표
+     * - point.rate_limit.rejected (scope=user|global) : 거절한 요청 수
+     * - point.rate_limit.buckets : 보관 중인 유저 버킷 수
+     * - point.rate_limit.evictions : 보관 시간 전에 최대 유저 수를 넘어 제거된 버킷 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.rate_limit.rejected", userRejections, LongAdder::sum)
+                .description("요청 수 제한으로 거절한 요청 수")
+                .tag("scope", "user")
+                .register(registry);
+        FunctionCounter.builder("point.rate_limit.rejected", globalRejections, LongAdder::sum)
+                .description("요청 수 제한으로 거절한 요청 수")
+                .tag("scope", "global")
+                .register(registry);
+        Gauge.builder("point.rate_limit.buckets", userBuckets, ExpiringMap::size)
+                .description("보관 중인 유저별 토큰 버킷 수")
+                .register(registry);
+        FunctionCounter.builder("point.rate_limit.evictions", userBuckets, ExpiringMap::evictionCount)
+                .description("최대 유저 수를 넘어 제거된 토큰 버킷 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러에 닿기 전에 요청 수를 제한한다.
+ * - 경로의 {id} 를 요청 대상 유저로 보고 유저별 제한을 검사하고, 모든 요청에 전체 제한을 검사한다.
+ * - 초과하면 Retry-After 헤더와 함께 429(TOO_MANY_REQUESTS)로 응답한다. (유저 락을 기다리는 요청이 쌓이지 않는다)
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ID_VARIABLE = "id";
+
+    private final PointRateLimiter pointRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리 결과를 쓰기 위한 재디스패치는 이미 검사한 요청이다.
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        long waitNanos = pointRateLimiter.tryAcquire(userIdOf(request));
+        if (waitNanos > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ceilSeconds(waitNanos))));
+            throw new BusinessException(PointErrorCode.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long userIdOf(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(USER_ID_VARIABLE) == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(variables.get(USER_ID_VARIABLE));
+        } catch (NumberFormatException e) {
+            // 잘못된 id 는 컨트롤러에서 400 으로 응답한다.
+            return null;
+        }
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong 에 보관한다. (GCRA)
+ *   남은 토큰 수 = (burst 만큼 채우는 시간 - (가득 차는 시각 - 현재 시각)) / 토큰 하나를 채우는 시간
+ * - 토큰을 꺼내면 가득 차는 시각을 토큰 하나만큼 미루고, 미룬 시각이 burst 만큼의 시간을 넘으면 거절한다.
+ * - 갱신은 compareAndSet 한 번이며, 실패하면 다시 계산한다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAtNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive: " + permitsPerSecond + ", " + burst);
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = intervalNanos * burst;
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰을 하나 꺼낸다.
+     * 꺼냈으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(ns)을 반환한다.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = (fullAt - nowNanos < 0 ? nowNanos : fullAt) + intervalNanos;
+            long waitNanos = next - nowNanos - capacityNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+}
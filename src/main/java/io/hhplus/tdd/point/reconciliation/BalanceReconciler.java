@@ -0,0 +1,416 @@
+package io.hhplus.tdd.point.reconciliation;
+
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.ReconciliationProperties;
+import io.hhplus.tdd.point.dto.BalanceDiscrepancy;
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.support.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 히스토리로 잔고를 다시 계산하여 저장된 잔고와 비교하는 정합성 검사기
+ * - 유저 id 목록을 fork-join 작업으로 나누어 병렬로 검사한다. (유저 하나는 항상 작업 하나가 검사)
+ * - 유저별로 지금까지 읽은 히스토리 건수와 그때까지의 합계(충전 - 사용)를 체크포인트로 남기고,
+ *   다음 검사에서는 그 건수만큼 건너뛴 위치부터 읽는다. 새 히스토리가 없고 일치했던 유저는 건너뛴다.
+ *   (id 는 유저 사이에서 번갈아 매겨지므로 id 가 아니라 유저별 목록 안의 위치로 이어 읽는다)
+ * - full 검사는 체크포인트를 버리고 모든 유저의 전체 히스토리를 다시 읽는다.
+ * - 체크포인트는 maxCheckpoints 명까지만 보관한다. 새 히스토리가 없어 갱신되지 않은 유저부터 버리며,
+ *   버려진 유저는 다음 검사에서 처음부터 다시 읽는다.
+ * - 히스토리 대부분은 락 없이 읽고, 마지막 비교만 유저 락을 tryAcquire 로 잡은 채 처리한다.
+ *   락을 바로 얻지 못한 유저는 기다리지 않고 다음 검사로 미루므로, 검사 중에도 충전/사용이 멈추지 않는다.
+ * - 낙관적/파티션 모드에서는 락이 쓰기를 막지 못하므로, 비교 전후 잔고 version 이 다르면 다음 검사로 미룬다.
+ *   모든 잔고 저장소는 변경마다 version 을 올린다. (TABLE 은 캐시를 꺼도 version 을 따로 보관한다)
+ * - 불일치는 한 번 더 확인한 뒤 보고하고, repair 이면 히스토리 기준 잔고로 바로잡는다.
+ *   (충전/사용과 같은 방식으로 저장 : 락 모드는 락을 잡은 채 save, 낙관적 모드는 compareAndSet,
+ *    파티션 모드는 유저의 파티션 스레드에서 version 이 그대로일 때만 save, repairTimeoutMillis 안에 끝나지 않으면 건너뛴다)
+ */
+@Slf4j
+@Component
+public class BalanceReconciler implements MeterBinder {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserLockManager userLockManager;
+    private final ReconciliationProperties properties;
+    private final PointConcurrencyProperties concurrencyProperties;
+    private final PointPartitionExecutor pointPartitionExecutor;
+    private final ForkJoinPool pool;
+
+    private volatile LruCache<Long, Checkpoint> checkpoints;
+    // 검사는 한 번에 하나만 실행한다.
+    private final ReentrantLock running = new ReentrantLock();
+
+    private ScheduledExecutorService scheduler;
+    private Timer duration;
+    private Counter discrepancies;
+    private Counter repairs;
+
+    public BalanceReconciler(UserPointRepository userPointRepository,
+                             PointHistoryRepository pointHistoryRepository,
+                             PointHistoryWriter pointHistoryWriter,
+                             UserLockManager userLockManager,
+                             ReconciliationProperties properties,
+                             PointConcurrencyProperties concurrencyProperties,
+                             PointPartitionExecutor pointPartitionExecutor) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userLockManager = userLockManager;
+        this.properties = properties;
+        this.concurrencyProperties = concurrencyProperties;
+        this.pointPartitionExecutor = pointPartitionExecutor;
+        this.checkpoints = new LruCache<>(properties.maxCheckpoints());
+        int parallelism = properties.parallelism() > 0 ? properties.parallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("point-reconciliation-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.intervalMillis() <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-reconciliation-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runScheduled, properties.intervalMillis(),
+                properties.intervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        pool.shutdownNow();
+    }
+
+    /**
+     * 정합성 검사를 실행한다. 이미 실행 중이면 RECONCILIATION_IN_PROGRESS 예외를 던진다.
+     */
+    public ReconciliationReport reconcile(boolean full, boolean repair) {
+        if (!running.tryLock()) {
+            throw new BusinessException(PointErrorCode.RECONCILIATION_IN_PROGRESS);
+        }
+        try {
+            long started = System.nanoTime();
+            if (full) {
+                checkpoints = new LruCache<>(properties.maxCheckpoints());
+            }
+            long[] userIds = pointHistoryRepository.findAllUserIds().stream().mapToLong(Long::longValue).toArray();
+            Result result = pool.invoke(new ReconcileTask(userIds, 0, userIds.length, repair));
+            long elapsed = System.nanoTime() - started;
+
+            if (duration != null) {
+                duration.record(elapsed, TimeUnit.NANOSECONDS);
+                discrepancies.increment(result.discrepancyCount);
+                repairs.increment(result.repairedUsers);
+            }
+            ReconciliationReport report = new ReconciliationReport(full, result.checkedUsers, result.scannedHistories,
+                    result.skippedUsers, result.discrepancyCount, result.repairedUsers, List.copyOf(result.discrepancies),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+            if (report.discrepancyCount() > 0) {
+                log.warn("잔고 불일치 {}명을 발견했습니다. (repaired={}, checked={}, skipped={})",
+                        report.discrepancyCount(), report.repairedUsers(), report.checkedUsers(), report.skippedUsers());
+            }
+            return report;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private void runScheduled() {
+        try {
+            reconcile(false, properties.repair());
+        } catch (BusinessException e) {
+            log.debug("이전 잔고 정합성 검사가 끝나지 않아 건너뜁니다.");
+        } catch (RuntimeException e) {
+            log.error("잔고 정합성 검사에 실패했습니다.", e);
+        }
+    }
+
+    private Result reconcileRange(long[] userIds, int from, int to, boolean repair) {
+        Result result = new Result();
+        for (int i = from; i < to; i++) {
+            try {
+                reconcileUser(userIds[i], repair, result);
+            } catch (RuntimeException e) {
+                log.error("잔고 정합성 검사 중 에러가 발생했습니다. (userId={})", userIds[i], e);
+                result.skippedUsers++;
+            }
+        }
+        return result;
+    }
+
+    private void reconcileUser(long userId, boolean repair, Result result) {
+        // 유저 하나는 작업 하나만 처리하므로 조회 후 저장해도 된다.
+        // 조회는 순서를 바꾸지 않는 peek 으로 하여, 갱신되지 않는 유저가 먼저 제거되도록 한다.
+        Checkpoint checkpoint = checkpoints.peek(userId);
+        if (checkpoint == null) {
+            checkpoint = new Checkpoint();
+        }
+
+        // 1. 락 없이 체크포인트 이후 히스토리를 읽어 합계를 이어서 계산한다. (히스토리는 추가만 되므로 체크포인트를 먼저 옮겨도 된다)
+        pointHistoryWriter.flush(userId);
+        long scanned = checkpoint.advance(pointHistoryRepository, userId);
+        result.scannedHistories += scanned;
+        if (scanned == 0 && checkpoint.consistent) {
+            return;
+        }
+        checkpoints.put(userId, checkpoint);
+
+        // 2. 락을 잡고 남은 히스토리를 읽은 뒤 비교한다.
+        Optional<Verification> verification = verify(userId, checkpoint, false, result);
+        if (verification.isEmpty()) {
+            result.skippedUsers++;
+            checkpoint.consistent = false;
+            return;
+        }
+        result.checkedUsers++;
+        if (verification.get().consistent()) {
+            checkpoint.consistent = true;
+            return;
+        }
+
+        // 3. 히스토리 저장 직전(잔고 변경 직후)에 읽었을 수 있으므로 한 번 더 확인한다.
+        verification = verify(userId, checkpoint, repair, result);
+        if (verification.isEmpty()) {
+            result.skippedUsers++;
+            checkpoint.consistent = false;
+            return;
+        }
+        if (verification.get().consistent()) {
+            checkpoint.consistent = true;
+            return;
+        }
+        boolean repaired = verification.get().repaired();
+        checkpoint.consistent = repaired;
+        if (repaired) {
+            result.repairedUsers++;
+        }
+        result.discrepancyCount++;
+        if (result.discrepancies.size() < properties.maxReportedDiscrepancies()) {
+            result.discrepancies.add(new BalanceDiscrepancy(userId, verification.get().balance().point(), checkpoint.sum, repaired));
+        }
+    }
+
+    /**
+     * 유저 락을 바로 얻지 못하거나 비교 도중 잔고가 바뀌면 empty 를 반환한다.
+     * repair 이면 불일치 잔고를 락을 잡은 채 바로잡는다.
+     */
+    private Optional<Verification> verify(long userId, Checkpoint checkpoint, boolean repair, Result result) {
+        UserLock lock = userLockManager.tryAcquire(userId);
+        if (lock == null) {
+            return Optional.empty();
+        }
+        try (lock) {
+            UserPoint before = findBalance(userId);
+            pointHistoryWriter.flush(userId);
+            result.scannedHistories += checkpoint.advance(pointHistoryRepository, userId);
+            UserPoint after = findBalance(userId);
+            if (before.version() != after.version()) {
+                return Optional.empty();
+            }
+            boolean consistent = after.point() == checkpoint.sum;
+            try {
+                return Optional.of(new Verification(after, consistent, !consistent && repair && repair(after, checkpoint.sum)));
+            } catch (TimeoutException e) {
+                log.warn("잔고를 제한 시간 안에 바로잡지 못해 다음 검사로 미룹니다. (userId={})", userId);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 파티션 모드에서 repairTimeoutMillis 안에 파티션 스레드가 처리하지 못하면 TimeoutException 을 던진다.
+     * (이미 넣은 작업은 나중에 실행될 수 있지만, version 이 그대로일 때만 저장하므로 그 사이 변경을 덮어쓰지 않는다)
+     */
+    private boolean repair(UserPoint balance, long expected) throws TimeoutException {
+        if (expected < 0) {
+            // 히스토리 합계가 음수이면 히스토리 자체가 잘못된 것이므로 잔고를 바꾸지 않는다.
+            return false;
+        }
+        switch (concurrencyProperties.mode()) {
+            case OPTIMISTIC -> {
+                if (userPointRepository.compareAndSet(balance, expected).isEmpty()) {
+                    return false;
+                }
+            }
+            case PARTITIONED -> {
+                CompletableFuture<Boolean> saved = pointPartitionExecutor.submit(balance.id(), () -> {
+                    if (findBalance(balance.id()).version() != balance.version()) {
+                        return false;
+                    }
+                    userPointRepository.save(balance.changePoint(expected));
+                    return true;
+                });
+                if (!await(saved)) {
+                    return false;
+                }
+            }
+            case LOCK -> userPointRepository.save(balance.changePoint(expected));
+        }
+        log.info("잔고를 히스토리 기준으로 바로잡았습니다. (userId={}, {} -> {})", balance.id(), balance.point(), expected);
+        return true;
+    }
+
+    private boolean await(CompletableFuture<Boolean> saved) throws TimeoutException {
+        try {
+            return saved.get(properties.repairTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("interrupted");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private UserPoint findBalance(long userId) {
+        return userPointRepository.findById(userId).orElse(new UserPoint(userId, 0, 0));
+    }
+
+    /**
+     * 잔고 정합성 검사 지표
+     * - point.reconciliation.duration : 검사 한 번에 걸린 시간
+     * - point.reconciliation.discrepancies : 발견한 불일치 수
+     * - point.reconciliation.repairs : 바로잡은 잔고 수
+     * - point.reconciliation.checkpoints : 체크포인트를 보관 중인 유저 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        duration = Timer.builder("point.reconciliation.duration")
+                .description("잔고 정합성 검사 시간")
+                .register(registry);
+        discrepancies = Counter.builder("point.reconciliation.discrepancies")
+                .description("발견한 잔고 불일치 수")
+                .register(registry);
+        repairs = Counter.builder("point.reconciliation.repairs")
+                .description("히스토리 기준으로 바로잡은 잔고 수")
+                .register(registry);
+        Gauge.builder("point.reconciliation.checkpoints", this, reconciler -> reconciler.checkpoints.size())
+                .description("체크포인트를 보관 중인 유저 수")
+                .register(registry);
+    }
+
+    /**
+     * 유저 id 범위를 splitThreshold 이하가 될 때까지 반으로 나누어 검사하고 결과를 합친다.
+     */
+    private final class ReconcileTask extends RecursiveTask<Result> {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final boolean repair;
+
+        private ReconcileTask(long[] userIds, int from, int to, boolean repair) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.repair = repair;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from <= Math.max(properties.splitThreshold(), 1)) {
+                return reconcileRange(userIds, from, to, repair);
+            }
+            int middle = (from + to) >>> 1;
+            ReconcileTask left = new ReconcileTask(userIds, from, middle, repair);
+            left.fork();
+            Result right = new ReconcileTask(userIds, middle, to, repair).compute();
+            return left.join().merge(right, properties.maxReportedDiscrepancies());
+        }
+    }
+
+    /**
+     * 유저별 체크포인트 (검사는 한 번에 하나만 실행되고 유저 하나는 작업 하나가 처리하므로 동기화하지 않는다)
+     * - position : 합계에 반영한 히스토리 건수 (유저별 히스토리 목록에서 다음에 읽을 위치)
+     * - sum : position 까지의 충전 합계 - 사용 합계
+     * - consistent : 마지막 검사에서 잔고와 일치했는지 여부
+     */
+    private static final class Checkpoint {
+
+        private int position;
+        private long sum;
+        private boolean consistent;
+
+        private long advance(PointHistoryRepository pointHistoryRepository, long userId) {
+            long scanned = 0;
+            try (Stream<PointHistory> histories = pointHistoryRepository.streamByUserIdFrom(userId, position)) {
+                for (PointHistory pointHistory : (Iterable<PointHistory>) histories::iterator) {
+                    sum += pointHistory.type().isCredit() ? pointHistory.amount() : -pointHistory.amount();
+                    position++;
+                    scanned++;
+                }
+            }
+            return scanned;
+        }
+    }
+
+    private record Verification(UserPoint balance, boolean consistent, boolean repaired) {
+    }
+
+    private static final class Result {
+
+        private long checkedUsers;
+        private long scannedHistories;
+        private long skippedUsers;
+        private long discrepancyCount;
+        private long repairedUsers;
+        private final List<BalanceDiscrepancy> discrepancies = new ArrayList<>();
+
+        private Result merge(Result other, int maxReported) {
+            checkedUsers += other.checkedUsers;
+            scannedHistories += other.scannedHistories;
+            skippedUsers += other.skippedUsers;
+            discrepancyCount += other.discrepancyCount;
+            repairedUsers += other.repairedUsers;
+            for (BalanceDiscrepancy discrepancy : other.discrepancies) {
+                if (discrepancies.size() >= maxReported) {
+                    break;
+                }
+                discrepancies.add(discrepancy);
+            }
+            return this;
+        }
+    }
+}
@@ -3,10 +3,35 @@ package io.hhplus.tdd.point.repository;
 import io.hhplus.tdd.point.entity.PointHistory;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PointHistoryRepository {
 
     PointHistory save(PointHistory userPoint);
     List<PointHistory> findAllByUserId(Long id);
 
+    /**
+     * 히스토리가 있는 모든 유저 id
+     */
+    List<Long> findAllUserIds();
+
+    /**
+     * 유저의 히스토리 중 id 가 cursor 보다 큰 히스토리를 저장 순서대로 반환한다.
+     * 반환된 Stream 은 사용 후 닫아야 한다.
+     */
+    default Stream<PointHistory> streamByUserId(Long id, long cursor) {
+        return findAllByUserId(id).stream()
+                .filter(pointHistory -> pointHistory.id() > cursor);
+    }
+
+    /**
+     * 유저의 히스토리를 저장 순서로 offset 건 건너뛴 위치부터 반환한다.
+     * 유저별 히스토리는 추가만 되므로, 앞서 읽은 건수를 넘기면 그 뒤에 저장된 히스토리만 읽는다. (id 순서와 무관)
+     * 반환된 Stream 은 사용 후 닫아야 한다.
+     */
+    default Stream<PointHistory> streamByUserIdFrom(Long id, int offset) {
+        return findAllByUserId(id).stream()
+                .skip(offset);
+    }
+
 }
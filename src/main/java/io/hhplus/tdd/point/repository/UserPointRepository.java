@@ -3,10 +3,26 @@ package io.hhplus.tdd.point.repository;
 import io.hhplus.tdd.point.entity.UserPoint;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserPointRepository {
 
     UserPoint save(UserPoint userPoint);
     Optional<UserPoint> findById(Long id);
 
+    /**
+     * 조회한 시점 이후 잔고가 변경되지 않았을 때만(version 비교) 새 잔고로 저장한다.
+     * 저장에 성공하면 version 이 1 증가한 UserPoint, 다른 요청이 먼저 변경했다면 empty 를 반환한다.
+     */
+    default Optional<UserPoint> compareAndSet(UserPoint current, long point) {
+        return compareAndSet(current, point, saved -> {
+        });
+    }
+
+    /**
+     * compareAndSet 에 성공하면, 같은 유저의 다음 변경이 저장되기 전에 onSwapped 를 호출한다.
+     * 유저별 변경 순서대로 후속 처리(이력 기록 등)를 해야 할 때 사용한다.
+     */
+    Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped);
+
 }
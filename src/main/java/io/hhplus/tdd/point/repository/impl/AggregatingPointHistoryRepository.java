@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.summary.PointHistoryAggregates;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 저장한 히스토리를 유저별 구간 집계(PointHistoryAggregates)에 함께 반영하는 저장소
+ * - 저장과 조회는 감싼 저장소에 맡긴다.
+ * - 생성 시 감싼 저장소에 이미 있는 히스토리(재시작 시 복구된 MAPPED 로그 등)로 집계를 다시 만든다.
+ * - 감싼 저장소가 닫아야 하는 저장소(MAPPED)이면 종료 시 함께 닫는다.
+ */
+public class AggregatingPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository delegate;
+    private final PointHistoryAggregates aggregates;
+
+    public AggregatingPointHistoryRepository(PointHistoryRepository delegate, PointHistoryAggregates aggregates) {
+        this.delegate = delegate;
+        this.aggregates = aggregates;
+        for (Long userId : delegate.findAllUserIds()) {
+            try (Stream<PointHistory> histories = delegate.streamByUserId(userId, 0)) {
+                histories.forEach(aggregates::record);
+            }
+        }
+    }
+
+    @Override
+    public PointHistory save(PointHistory userPoint) {
+        PointHistory saved = delegate.save(userPoint);
+        aggregates.record(saved);
+        return saved;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long id) {
+        return delegate.findAllByUserId(id);
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return delegate.findAllUserIds();
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(Long id, long cursor) {
+        return delegate.streamByUserId(id, cursor);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserIdFrom(Long id, int offset) {
+        return delegate.streamByUserIdFrom(id, offset);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.support.LongArrayList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 히스토리를 컬럼별 primitive 배열에 저장하는 메모리 저장소
+ * - PointHistory 객체(헤더 + 박싱된 Long 4개)를 보관하지 않고, 열마다 배열 하나에 값만 담는다. (히스토리당 약 25 byte)
+ * - 배열은 chunkSize 건 단위 청크로 나누어 할당하므로, 늘어날 때 기존 값을 복사하지 않는다.
+ * - 유저별 인덱스에는 행 번호만 보관하고, PointHistory 는 조회하면서 읽는 행마다 만든다.
+ *   (userId 는 인덱스의 키이므로 열로 두지 않는다)
+ * - id 는 저장소가 1부터 순서대로 발급한다. (id = 행 번호 + 1 이므로 id 열은 두지 않는다)
+ * - 재시작 시 사라진다. (TABLE 과 같음)
+ *
+ * 청크 구조 (행 하나)
+ * | amount (long) | updateMillis (long) | type (byte, ordinal) |
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int SCAN_CHUNK_SIZE = 256;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final int chunkShift;
+    private final int chunkMask;
+
+    // 청크 목록은 writeLock 안에서 새 배열로 바꿔 끼운다. (조회는 잠금 없이 읽는다)
+    private volatile Chunk[] chunks = new Chunk[0];
+    private final ConcurrentMap<Long, LongArrayList> rowsByUserId = new ConcurrentHashMap<>();
+
+    // 쓰기는 writeLock 안에서만 일어난다.
+    private final Object writeLock = new Object();
+    private long nextRow;
+
+    public ColumnarPointHistoryRepository() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize 청크 하나의 행 수 (2의 거듭제곱)
+     */
+    public ColumnarPointHistoryRepository(int chunkSize) {
+        if (chunkSize < 1 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("chunkSize must be a power of two: " + chunkSize);
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+    }
+
+    @Override
+    public PointHistory save(PointHistory userPoint) {
+        long row;
+        synchronized (writeLock) {
+            row = nextRow;
+            int chunkIndex = (int) (row >>> chunkShift);
+            if (chunkIndex == chunks.length) {
+                Chunk[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+                grown[chunkIndex] = new Chunk(chunkMask + 1);
+                chunks = grown;
+            }
+            chunks[chunkIndex].write((int) (row & chunkMask), userPoint);
+            nextRow = row + 1;
+            // 행을 기록한 뒤 인덱스에 추가하므로, 인덱스에서 행 번호를 읽은 조회는 기록된 값을 본다.
+            // 행 번호 부여와 같은 락 안에서 추가하여, 유저별 인덱스가 항상 행 번호 오름차순이 되도록 한다.
+            LongArrayList rows = rowsByUserId.computeIfAbsent(userPoint.userId(), id -> new LongArrayList());
+            synchronized (rows) {
+                rows.add(row);
+            }
+        }
+        return new PointHistory(row + 1, userPoint.userId(), userPoint.amount(), userPoint.type(), userPoint.updateMillis());
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long id) {
+        try (Stream<PointHistory> histories = streamByUserId(id, 0)) {
+            return histories.toList();
+        }
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return List.copyOf(rowsByUserId.keySet());
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(Long id, long cursor) {
+        LongArrayList rows = rowsByUserId.get(id);
+        if (rows == null) {
+            return Stream.empty();
+        }
+        int from;
+        synchronized (rows) {
+            from = firstIndexAfter(rows, cursor);
+        }
+        return stream(id, rows, from);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserIdFrom(Long id, int offset) {
+        LongArrayList rows = rowsByUserId.get(id);
+        if (rows == null) {
+            return Stream.empty();
+        }
+        return stream(id, rows, offset);
+    }
+
+    private Stream<PointHistory> stream(Long id, LongArrayList rows, int from) {
+        Iterator<PointHistory> iterator = new RowIterator(id, rows, from);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // id 가 cursor 보다 큰 첫 위치 (행 번호 + 1 = id 이므로 행 번호로 비교)
+    private static int firstIndexAfter(LongArrayList rows, long cursor) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows.get(mid) + 1 <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public long size() {
+        synchronized (writeLock) {
+            return nextRow;
+        }
+    }
+
+    // 유저별 인덱스로 찾은 행이므로 조회한 유저 id 객체를 그대로 쓴다.
+    private PointHistory read(long row, Long userId) {
+        Chunk chunk = chunks[(int) (row >>> chunkShift)];
+        int slot = (int) (row & chunkMask);
+        return new PointHistory(row + 1, userId, chunk.amounts[slot], TYPES[chunk.types[slot]], chunk.updateMillis[slot]);
+    }
+
+    private static final class Chunk {
+
+        private final long[] amounts;
+        private final long[] updateMillis;
+        private final byte[] types;
+
+        private Chunk(int size) {
+            this.amounts = new long[size];
+            this.updateMillis = new long[size];
+            this.types = new byte[size];
+        }
+
+        private void write(int slot, PointHistory pointHistory) {
+            amounts[slot] = pointHistory.amount();
+            updateMillis[slot] = pointHistory.updateMillis();
+            types[slot] = (byte) pointHistory.type().ordinal();
+        }
+    }
+
+    /**
+     * 유저의 행 번호를 SCAN_CHUNK_SIZE 단위로 복사하고, 행은 읽을 때 PointHistory 로 만든다.
+     */
+    private final class RowIterator implements Iterator<PointHistory> {
+
+        private final Long userId;
+        private final LongArrayList rows;
+        // 다음 구간을 읽기 시작할 위치
+        private int next;
+        private long[] chunk = new long[0];
+        private int position;
+        private boolean exhausted;
+
+        private RowIterator(Long userId, LongArrayList rows, int from) {
+            this.userId = userId;
+            this.rows = rows;
+            this.next = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < chunk.length) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            // 목록은 추가만 되므로 위치로 이어 읽어도 앞서 읽은 구간과 겹치거나 빠지지 않는다.
+            synchronized (rows) {
+                chunk = rows.copyOfRange(Math.min(next, rows.size()), next + SCAN_CHUNK_SIZE);
+            }
+            next += chunk.length;
+            position = 0;
+            exhausted = chunk.length < SCAN_CHUNK_SIZE;
+            return chunk.length > 0;
+        }
+
+        @Override
+        public PointHistory next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return read(chunk[position++], userId);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.config.BalanceStoreProperties;
+import io.hhplus.tdd.point.config.BalanceWalProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.hhplus.tdd.point.repository.wal.BalanceSnapshotStore;
+import io.hhplus.tdd.point.repository.wal.BalanceWriteAheadLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 재시작 시 잔고를 복구하는 저장소
+ * - 잔고는 PrimitiveUserPointRepository(LongPointMap)에 보관하고, 변경될 때마다 로그(BalanceWriteAheadLog)에 기록한다.
+ * - 로그가 snapshotMinRecords 이상 쌓이면 전체 잔고를 스냅샷으로 기록하고, 스냅샷에 포함된 로그는 삭제한다.
+ * - 시작 시 최신 스냅샷을 읽고, 스냅샷 이후의 로그만 재적용한다.
+ * - 같은 유저의 로그는 version 이 큰 것만 남기므로, 로그 순서와 스냅샷 시점이 조금 어긋나도 최신 잔고로 복구된다.
+ * - 잔고 변경은 로그에 먼저 기록한 뒤 맵에 반영한다. 로그 기록에 실패하면 맵은 바뀌지 않고 예외를 던진다.
+ *   (검사 - 로그 기록 - 맵 반영은 유저 스트라이프 락 안에서 하므로, 그 사이 같은 유저의 다른 변경이 끼어들지 않는다)
+ * - 스냅샷은 로그 seq 를 정하는 동안 잔고 변경을 막아, 그 seq 까지의 로그가 모두 맵에 반영된 뒤에 맵을 읽는다.
+ */
+@Slf4j
+public class DurableUserPointRepository implements UserPointRepository, MeterBinder, AutoCloseable {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final LongPointMap balances;
+    private final PrimitiveUserPointRepository delegate;
+    private final BalanceSnapshotStore snapshots;
+    private final BalanceWriteAheadLog wal;
+    private final long snapshotMinRecords;
+    private final ScheduledExecutorService scheduler;
+
+    private final UserLockManager stripes = new StripedUserLockManager(LOCK_STRIPES, false);
+    /**
+     * 잔고 변경(로그 기록 + 맵 반영)은 읽기 락, 스냅샷 seq 결정은 쓰기 락
+     */
+    private final ReadWriteLock writeBarrier = new ReentrantReadWriteLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private volatile long snapshotSeq;
+    private final long recoveryMillis;
+
+    public DurableUserPointRepository(BalanceStoreProperties storeProperties, BalanceWalProperties walProperties) {
+        Path directory = Path.of(walProperties.directory());
+        long started = System.nanoTime();
+
+        // 1. 최신 스냅샷 (유저 수에 맞춰 맵 크기를 미리 잡아 크기 조정을 피한다)
+        this.snapshots = new BalanceSnapshotStore(directory);
+        Optional<BalanceSnapshotStore.Snapshot> snapshot = snapshots.latest();
+        long expectedUsers = snapshot.map(BalanceSnapshotStore.Snapshot::count).orElse(0L);
+        int capacity = (int) Math.min(Math.max(storeProperties.initialCapacity(), expectedUsers * 5 / 3 + 1), 1 << 30);
+        this.balances = new LongPointMap(storeProperties.segments(), capacity, storeProperties.offHeap());
+        snapshot.ifPresent(latest -> snapshots.load(latest, balances));
+        this.snapshotSeq = snapshot.map(BalanceSnapshotStore.Snapshot::seq).orElse(0L);
+
+        // 2. 스냅샷 이후 로그 재적용
+        long[] replayed = {0};
+        long lastSeq = BalanceWriteAheadLog.replay(directory, snapshotSeq, (seq, id, point, updateMillis, version) -> {
+            balances.putIfNewer(id, point, updateMillis, version);
+            replayed[0]++;
+        });
+        this.wal = new BalanceWriteAheadLog(directory, walProperties.sync(), lastSeq);
+        this.delegate = new PrimitiveUserPointRepository(balances);
+        this.snapshotMinRecords = walProperties.snapshotMinRecords();
+        this.recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("잔고 {}명을 {}ms 만에 복구했습니다. (snapshot seq={}, 재적용 로그 {}건)",
+                balances.size(), recoveryMillis, snapshotSeq, replayed[0]);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-wal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (walProperties.sync() == WalSyncMode.INTERVAL) {
+            scheduler.scheduleWithFixedDelay(this::sync, walProperties.syncIntervalMillis(),
+                    walProperties.syncIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::snapshotIfNeeded, walProperties.snapshotIntervalMillis(),
+                walProperties.snapshotIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis(), userPoint.version());
+        try (UserLock ignored = stripes.acquire(saved.id())) {
+            apply(saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<UserPoint> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped) {
+        try (UserLock ignored = stripes.acquire(current.id())) {
+            UserPoint latest = balances.get(current.id());
+            if ((latest == null ? 0 : latest.version()) != current.version()) {
+                return Optional.empty();
+            }
+            UserPoint next = current.changePoint(point);
+            apply(next);
+            onSwapped.accept(next);
+            return Optional.of(next);
+        }
+    }
+
+    /**
+     * 로그에 먼저 기록하고, 기록에 성공했을 때만 맵에 반영한다. (유저 스트라이프 락 안에서 호출)
+     */
+    private void apply(UserPoint userPoint) {
+        writeBarrier.readLock().lock();
+        try {
+            wal.append(userPoint);
+            balances.put(userPoint.id(), userPoint.point(), userPoint.updateMillis(), userPoint.version());
+        } finally {
+            writeBarrier.readLock().unlock();
+        }
+    }
+
+    /**
+     * 로그를 새 세그먼트로 넘기고, 그 시점까지의 잔고를 스냅샷으로 기록한다.
+     * seq 를 정하는 동안 잔고 변경을 막으므로, 맵을 읽을 때는 seq 까지의 로그가 모두 반영되어 있다.
+     * (이후 변경이 스냅샷에 섞여도 재적용 시 version 이 큰 쪽만 남는다)
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long seq;
+            writeBarrier.writeLock().lock();
+            try {
+                seq = wal.roll();
+            } finally {
+                writeBarrier.writeLock().unlock();
+            }
+            long started = System.nanoTime();
+            BalanceSnapshotStore.Snapshot written = snapshots.write(seq, balances);
+            wal.deleteSegmentsUpTo(seq);
+            snapshotSeq = seq;
+            log.info("잔고 스냅샷을 기록했습니다. (seq={}, users={}, {}ms)",
+                    seq, written.count(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    public long recoveryMillis() {
+        return recoveryMillis;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 다음 시작 시 재적용할 로그가 없도록 종료 직전 스냅샷을 남긴다.
+        if (wal.lastSeq() > snapshotSeq) {
+            snapshot();
+        }
+        wal.close();
+    }
+
+    private void sync() {
+        try {
+            wal.sync();
+        } catch (RuntimeException e) {
+            log.error("잔고 로그를 디스크에 기록하지 못했습니다.", e);
+        }
+    }
+
+    private void snapshotIfNeeded() {
+        if (wal.lastSeq() - snapshotSeq < snapshotMinRecords) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("잔고 스냅샷을 기록하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 잔고 로그 지표 (+ PrimitiveUserPointRepository 지표)
+     * - point.balance.wal.records : 기록한 로그 수
+     * - point.balance.wal.pending : 마지막 스냅샷 이후 쌓인 로그 수 (재시작 시 재적용할 양)
+     * - point.balance.recovery.duration : 시작 시 복구에 걸린 시간
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        delegate.bindTo(registry);
+        FunctionCounter.builder("point.balance.wal.records", wal, BalanceWriteAheadLog::lastSeq)
+                .register(registry);
+        Gauge.builder("point.balance.wal.pending", this, repository -> repository.wal.lastSeq() - repository.snapshotSeq)
+                .register(registry);
+        Gauge.builder("point.balance.recovery.duration", this, DurableUserPointRepository::recoveryMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
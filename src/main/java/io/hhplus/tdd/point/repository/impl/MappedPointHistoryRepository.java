@@ -0,0 +1,317 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.support.LongArrayList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 메모리 매핑된 append-only 로그 파일에 히스토리를 저장하는 저장소
+ * - 히스토리 하나를 고정 길이(RECORD_SIZE) 바이너리 레코드로 기록하고, 세그먼트 파일이 가득 차면 다음 파일을 만든다.
+ * - 레코드 번호(전체 로그에서 몇 번째 레코드인지)만 유저별 인덱스에 보관하고, 조회 시 매핑된 버퍼에서 바로 읽는다.
+ * - 시작 시 세그먼트를 순서대로 읽어 id 가 이어지고 checksum 이 맞는 레코드까지 복구한다. (중간에 끊긴 마지막 레코드는 버린다)
+ * - id 는 저장소가 1부터 순서대로 발급한다. (id = 레코드 번호 + 1)
+ *
+ * 레코드 구조 (40 byte)
+ * | id (8) | userId (8) | amount (8) | updateMillis (8) | type (4) | checksum (4) |
+ */
+@Slf4j
+public class MappedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    static final int RECORD_SIZE = 40;
+    static final String SEGMENT_PREFIX = "history-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private static final int SCAN_CHUNK_SIZE = 256;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean forceOnWrite;
+
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Long, LongArrayList> recordsByUserId = new ConcurrentHashMap<>();
+
+    // 쓰기는 writeLock 안에서만 일어난다. (파일 매핑/force 중 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long nextRecord;
+
+    public MappedPointHistoryRepository(Path directory, int segmentSize, boolean forceOnWrite) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be at least " + RECORD_SIZE + " bytes: " + segmentSize);
+        }
+        this.directory = directory;
+        this.recordsPerSegment = segmentSize / RECORD_SIZE;
+        this.forceOnWrite = forceOnWrite;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 히스토리 로그를 열 수 없습니다. " + directory, e);
+        }
+    }
+
+    @Override
+    public PointHistory save(PointHistory userPoint) {
+        PointHistory saved;
+        writeLock.lock();
+        try {
+            long record = nextRecord;
+            saved = new PointHistory(record + 1, userPoint.userId(), userPoint.amount(), userPoint.type(), userPoint.updateMillis());
+            write(record, saved);
+            nextRecord = record + 1;
+            // 레코드 번호 부여와 같은 락 안에서 인덱스에 추가하여, 유저별 인덱스가 항상 레코드 번호(= id) 오름차순이 되도록 한다.
+            LongArrayList records = recordsByUserId.computeIfAbsent(saved.userId(), id -> new LongArrayList());
+            synchronized (records) {
+                records.add(record);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return saved;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long id) {
+        try (Stream<PointHistory> histories = streamByUserId(id, 0)) {
+            return histories.toList();
+        }
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return List.copyOf(recordsByUserId.keySet());
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(Long id, long cursor) {
+        LongArrayList records = recordsByUserId.get(id);
+        if (records == null) {
+            return Stream.empty();
+        }
+        int from;
+        synchronized (records) {
+            from = firstIndexAfter(records, cursor);
+        }
+        return stream(records, from);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserIdFrom(Long id, int offset) {
+        LongArrayList records = recordsByUserId.get(id);
+        if (records == null) {
+            return Stream.empty();
+        }
+        return stream(records, offset);
+    }
+
+    private Stream<PointHistory> stream(LongArrayList records, int from) {
+        Iterator<PointHistory> iterator = new RecordIterator(records, from);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // id 가 cursor 보다 큰 첫 위치 (레코드 번호 + 1 = id 이므로 레코드 번호로 비교)
+    private static int firstIndexAfter(LongArrayList records, long cursor) {
+        int low = 0;
+        int high = records.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (records.get(mid) + 1 <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public long size() {
+        writeLock.lock();
+        try {
+            return nextRecord;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(long record, PointHistory pointHistory) {
+        int segmentIndex = (int) (record / recordsPerSegment);
+        if (segmentIndex == segments.size()) {
+            segments.add(map(segmentIndex));
+        }
+        MappedByteBuffer segment = segments.get(segmentIndex);
+        int offset = (int) (record % recordsPerSegment) * RECORD_SIZE;
+        int type = pointHistory.type().ordinal();
+        segment.putLong(offset, pointHistory.id());
+        segment.putLong(offset + 8, pointHistory.userId());
+        segment.putLong(offset + 16, pointHistory.amount());
+        segment.putLong(offset + 24, pointHistory.updateMillis());
+        segment.putInt(offset + 32, type);
+        // checksum 을 마지막에 기록하여, 기록 도중 종료되면 복구 시 버려지도록 한다.
+        segment.putInt(offset + 36, checksum(pointHistory.id(), pointHistory.userId(), pointHistory.amount(), pointHistory.updateMillis(), type));
+        if (forceOnWrite) {
+            segment.force(offset, RECORD_SIZE);
+        }
+    }
+
+    private PointHistory read(long record) {
+        MappedByteBuffer segment = segments.get((int) (record / recordsPerSegment));
+        int offset = (int) (record % recordsPerSegment) * RECORD_SIZE;
+        return new PointHistory(
+                segment.getLong(offset),
+                segment.getLong(offset + 8),
+                segment.getLong(offset + 16),
+                TYPES[segment.getInt(offset + 32)],
+                segment.getLong(offset + 24));
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; Files.exists(segmentPath(i)); i++) {
+            files.add(segmentPath(i));
+        }
+        long segmentBytes = (long) recordsPerSegment * RECORD_SIZE;
+        for (Path file : files) {
+            // 세그먼트 크기가 바뀌면 레코드 위치를 계산할 수 없으므로 시작하지 않는다.
+            if (Files.size(file) != segmentBytes) {
+                throw new IllegalStateException("세그먼트 크기가 설정과 다릅니다. " + file + " (expected=" + segmentBytes + ")");
+            }
+        }
+        long record = 0;
+        recovering:
+        for (int i = 0; i < files.size(); i++) {
+            segments.add(map(i));
+            MappedByteBuffer segment = segments.get(i);
+            for (int slot = 0; slot < recordsPerSegment; slot++) {
+                if (!isValid(segment, slot * RECORD_SIZE, record + 1)) {
+                    break recovering;
+                }
+                long userId = segment.getLong(slot * RECORD_SIZE + 8);
+                recordsByUserId.computeIfAbsent(userId, id -> new LongArrayList()).add(record);
+                record++;
+            }
+        }
+        nextRecord = record;
+        if (!files.isEmpty()) {
+            log.info("포인트 히스토리 로그 {}건을 복구했습니다. (segments={}, users={})", record, segments.size(), recordsByUserId.size());
+        }
+    }
+
+    private boolean isValid(MappedByteBuffer segment, int offset, long expectedId) {
+        long id = segment.getLong(offset);
+        if (id != expectedId) {
+            return false;
+        }
+        int type = segment.getInt(offset + 32);
+        if (type < 0 || type >= TYPES.length) {
+            return false;
+        }
+        return segment.getInt(offset + 36) == checksum(id, segment.getLong(offset + 8), segment.getLong(offset + 16),
+                segment.getLong(offset + 24), type);
+    }
+
+    private MappedByteBuffer map(int segmentIndex) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segmentIndex),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지된다.
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 히스토리 세그먼트를 열 수 없습니다. " + segmentPath(segmentIndex), e);
+        }
+    }
+
+    private Path segmentPath(int segmentIndex) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%08d", segmentIndex) + SEGMENT_SUFFIX);
+    }
+
+    private static int checksum(long id, long userId, long amount, long updateMillis, int type) {
+        long hash = id;
+        hash = hash * 31 + userId;
+        hash = hash * 31 + amount;
+        hash = hash * 31 + updateMillis;
+        hash = hash * 31 + type;
+        return Long.hashCode(hash * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * 유저의 레코드 번호를 SCAN_CHUNK_SIZE 단위로 복사하고, 레코드는 읽을 때 매핑된 버퍼에서 가져온다.
+     */
+    private final class RecordIterator implements Iterator<PointHistory> {
+
+        private final LongArrayList records;
+        // 다음 구간을 읽기 시작할 위치
+        private int next;
+        private long[] chunk = new long[0];
+        private int position;
+        private boolean exhausted;
+
+        private RecordIterator(LongArrayList records, int from) {
+            this.records = records;
+            this.next = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < chunk.length) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            // 목록은 추가만 되므로 위치로 이어 읽어도 앞서 읽은 구간과 겹치거나 빠지지 않는다.
+            synchronized (records) {
+                chunk = records.copyOfRange(Math.min(next, records.size()), next + SCAN_CHUNK_SIZE);
+            }
+            next += chunk.length;
+            position = 0;
+            exhausted = chunk.length < SCAN_CHUNK_SIZE;
+            return chunk.length > 0;
+        }
+
+        @Override
+        public PointHistory next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return read(chunk[position++]);
+        }
+    }
+}
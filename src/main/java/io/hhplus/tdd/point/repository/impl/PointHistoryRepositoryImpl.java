@@ -4,24 +4,165 @@ import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-@Repository
 @RequiredArgsConstructor
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
 
+    // 커서 조회 시 한 번에 복사하는 히스토리 수
+    static final int SCAN_CHUNK_SIZE = 256;
+
     private final PointHistoryTable pointHistoryTable;
 
+    /**
+     * 유저별 히스토리 보조 인덱스 (userId -> 저장 순서대로 쌓이는 히스토리 목록)
+     * - PointHistoryTable.selectAllByUserId 는 전체 테이블을 순회하므로, 조회는 인덱스에서 처리한다.
+     * - 테이블에 저장된 결과(id 포함)를 그대로 보관하며, 추가만 발생한다.
+     * - 같은 유저의 저장은 유저별 락 안에서 id 부여(insert)와 목록 추가를 함께 하므로 목록은 id 오름차순이다.
+     */
+    private final ConcurrentMap<Long, UserIndex> indexesByUserId = new ConcurrentHashMap<>();
+
     @Override
     public PointHistory save(PointHistory userPoint) {
-        return pointHistoryTable.insert(userPoint.userId(), userPoint.amount(), userPoint.type(), userPoint.updateMillis());
+        UserIndex index = indexesByUserId.computeIfAbsent(userPoint.userId(), id -> new UserIndex());
+        // 테이블 insert(최대 300ms)는 이 유저의 저장만 막고, 조회는 목록 모니터만 잡으므로 기다리지 않는다.
+        index.appendLock.lock();
+        try {
+            PointHistory saved = pointHistoryTable.insert(userPoint.userId(), userPoint.amount(), userPoint.type(), userPoint.updateMillis());
+            synchronized (index.histories) {
+                index.histories.add(saved);
+            }
+            return saved;
+        } finally {
+            index.appendLock.unlock();
+        }
     }
 
     @Override
     public List<PointHistory> findAllByUserId(Long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        UserIndex index = indexesByUserId.get(id);
+        if (index == null) {
+            return List.of();
+        }
+        synchronized (index.histories) {
+            return List.copyOf(index.histories);
+        }
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return List.copyOf(indexesByUserId.keySet());
+    }
+
+    /**
+     * 전체 목록을 복사하지 않고, 커서 위치부터 SCAN_CHUNK_SIZE 단위로 잘라서 읽는다.
+     * 소비하는 쪽이 멈추면(limit 등) 이후 구간은 읽지 않는다.
+     */
+    @Override
+    public Stream<PointHistory> streamByUserId(Long id, long cursor) {
+        UserIndex index = indexesByUserId.get(id);
+        if (index == null) {
+            return Stream.empty();
+        }
+        int from;
+        synchronized (index.histories) {
+            from = firstIndexAfter(index.histories, cursor);
+        }
+        return stream(index.histories, from);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserIdFrom(Long id, int offset) {
+        UserIndex index = indexesByUserId.get(id);
+        if (index == null) {
+            return Stream.empty();
+        }
+        return stream(index.histories, offset);
+    }
+
+    private static Stream<PointHistory> stream(List<PointHistory> histories, int from) {
+        Iterator<PointHistory> iterator = new ChunkIterator(histories, from);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // id 가 cursor 보다 큰 첫 위치 (목록은 id 오름차순이므로 이진 탐색)
+    private static int firstIndexAfter(List<PointHistory> histories, long cursor) {
+        int low = 0;
+        int high = histories.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (histories.get(mid).id() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class UserIndex {
+
+        private final ReentrantLock appendLock = new ReentrantLock();
+        private final List<PointHistory> histories = new ArrayList<>();
+    }
+
+    private static final class ChunkIterator implements Iterator<PointHistory> {
+
+        private final List<PointHistory> histories;
+        // 다음 구간을 읽기 시작할 위치
+        private int next;
+        private List<PointHistory> chunk = List.of();
+        private int position;
+        private boolean exhausted;
+
+        private ChunkIterator(List<PointHistory> histories, int from) {
+            this.histories = histories;
+            this.next = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < chunk.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            chunk = nextChunk();
+            position = 0;
+            exhausted = chunk.size() < SCAN_CHUNK_SIZE;
+            return !chunk.isEmpty();
+        }
+
+        @Override
+        public PointHistory next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.get(position++);
+        }
+
+        // 목록은 추가만 되므로 위치로 이어 읽어도 앞서 읽은 구간과 겹치거나 빠지지 않는다.
+        private List<PointHistory> nextChunk() {
+            synchronized (histories) {
+                int from = Math.min(next, histories.size());
+                int to = Math.min(from + SCAN_CHUNK_SIZE, histories.size());
+                next = to;
+                return List.copyOf(histories.subList(from, to));
+            }
+        }
     }
 
 }
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 잔고를 LongPointMap 에 보관하는 저장소
+ * - UserPointTable(HashMap<Long, UserPoint>) 대신 유저당 long 4개 크기의 슬롯만 사용한다.
+ * - version 을 함께 보관하므로 compareAndSet 을 별도 맵 없이 슬롯 단위로 처리한다.
+ * - 별도 캐시를 두지 않는다. (조회가 이미 메모리 접근 한 번이다)
+ * - compareAndSet 의 onSwapped 는 유저 스트라이프 락 안에서 호출하므로, 같은 유저의 다음 변경보다 먼저 끝난다.
+ */
+public class PrimitiveUserPointRepository implements UserPointRepository, MeterBinder {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final LongPointMap balances;
+    private final UserLockManager stripes = new StripedUserLockManager(LOCK_STRIPES, false);
+
+    public PrimitiveUserPointRepository(LongPointMap balances) {
+        this.balances = balances;
+    }
+
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis(), userPoint.version());
+        balances.put(saved.id(), saved.point(), saved.updateMillis(), saved.version());
+        return saved;
+    }
+
+    @Override
+    public Optional<UserPoint> findById(Long id) {
+        return Optional.ofNullable(balances.get(id));
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped) {
+        UserPoint next = current.changePoint(point);
+        try (UserLock ignored = stripes.acquire(current.id())) {
+            if (!balances.compareAndPut(next.id(), current.version(), next.point(), next.updateMillis(), next.version())) {
+                return Optional.empty();
+            }
+            onSwapped.accept(next);
+            return Optional.of(next);
+        }
+    }
+
+    /**
+     * 잔고 저장소 지표
+     * - point.balance.store.size : 저장된 유저 수
+     * - point.balance.store.memory (area=heap|offheap) : 슬롯 배열 크기 (byte)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.balance.store.size", balances, LongPointMap::size)
+                .register(registry);
+        Gauge.builder("point.balance.store.memory", balances, LongPointMap::memoryBytes)
+                .tag("area", balances.isOffHeap() ? "offheap" : "heap")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
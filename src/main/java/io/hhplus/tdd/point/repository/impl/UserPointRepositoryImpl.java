@@ -1,27 +1,194 @@
 package io.hhplus.tdd.point.repository.impl;
 
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.RefCountedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
 import io.hhplus.tdd.point.repository.UserPointRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Repository;
+import io.hhplus.tdd.point.repository.support.LruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-@Repository
-@RequiredArgsConstructor
-public class UserPointRepositoryImpl implements UserPointRepository {
+/**
+ * UserPointTable 에 잔고를 저장하는 저장소
+ * - version 은 테이블에 없으므로 캐시 항목에 보관한다. (캐시 크기 제한을 그대로 따르며, 유저 수만큼 쌓이지 않는다)
+ * - 캐시를 끄면 잔고는 항상 테이블에서 읽고, version 만 따로 크기가 제한된 캐시(versions)에 보관한다.
+ *   캐시 설정과 관계없이 version 이 늘어나므로 compareAndSet 과 version 비교(정합성 검사 등)를 그대로 쓸 수 있다.
+ * - 저장, compareAndSet, 캐시 미스 적재는 모두 유저별 락 안에서 처리하므로 캐시 항목은 항상 테이블의 마지막 잔고와 같다.
+ * - 캐시에서 제거된 유저를 다시 적재할 때는 version 을 그때까지의 제거 횟수 세대(generation << 32)부터 시작한다.
+ *   제거 전에 읽은 version 으로는 compareAndSet 이 통과하지 못한다. (제거가 없었다면 0 부터 센다)
+ */
+public class UserPointRepositoryImpl implements UserPointRepository, MeterBinder {
+
+    private static final int GENERATION_SHIFT = 32;
+    // 캐시를 끈 경우 version 을 보관하는 최소 유저 수 (너무 작으면 제거될 때마다 세대가 바뀌어 compareAndSet 이 자주 실패한다)
+    private static final int MIN_VERSION_ENTRIES = 1024;
 
     private final UserPointTable userPointTable;
 
+    /**
+     * 잔고 write-through 캐시 (version 포함)
+     * - 모든 잔고 변경은 save / compareAndSet 을 거치므로, 테이블 저장 후 캐시도 함께 갱신한다.
+     * - 비활성화 시 null
+     */
+    private final LruCache<Long, UserPoint> cache;
+
+    /**
+     * 캐시를 끈 경우 유저별 마지막 version (캐시를 켜면 null)
+     */
+    private final LruCache<Long, Long> versions;
+
+    /**
+     * 유저별 저장/캐시 적재 락
+     * - 캐시 미스 시 테이블 조회와 캐시 적재를 저장과 같은 락 안에서 하므로, 조회 도중 저장된 최신 잔고를
+     *   (그 사이 캐시에서 제거되었더라도) 예전 잔고로 덮어써 캐시에 남기지 않는다.
+     * - 참조 수를 세어 쓰지 않는 락은 제거하므로 유저 수만큼 쌓이지 않는다.
+     */
+    private final UserLockManager keyLocks = new RefCountedUserLockManager(false);
+
+    public UserPointRepositoryImpl(UserPointTable userPointTable, BalanceCacheProperties cacheProperties) {
+        this.userPointTable = userPointTable;
+        this.cache = cacheProperties.enabled() ? new LruCache<>(cacheProperties.maxSize()) : null;
+        this.versions = cacheProperties.enabled() ? null : new LruCache<>(Math.max(cacheProperties.maxSize(), MIN_VERSION_ENTRIES));
+    }
+
+    /**
+     * 보관 중인 version 다음 값으로 저장한다. (인자의 version 은 사용하지 않는다)
+     * 보관 중이 아니면 테이블을 다시 읽지 않고 현재 세대의 첫 version 다음 값으로 저장한다.
+     */
     @Override
     public UserPoint save(UserPoint userPoint) {
-        return userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+        try (UserLock ignored = keyLocks.acquire(userPoint.id())) {
+            return write(userPoint.id(), userPoint.point(), storedVersion(userPoint.id()) + 1);
+        }
     }
 
     @Override
     public Optional<UserPoint> findById(Long id) {
-        return Optional.ofNullable(userPointTable.selectById(id));
+        if (cache == null) {
+            return Optional.of(readThrough(id));
+        }
+        UserPoint cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try (UserLock ignored = keyLocks.acquire(id)) {
+            return Optional.of(load(id));
+        }
+    }
+
+    /**
+     * 캐시의 version 이 current 와 같을 때만 저장하고, 같은 락 안에서 onSwapped 를 호출한다.
+     */
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped) {
+        try (UserLock ignored = keyLocks.acquire(current.id())) {
+            long version = cache == null ? storedVersion(current.id()) : load(current.id()).version();
+            if (version != current.version()) {
+                return Optional.empty();
+            }
+            UserPoint saved = write(current.id(), point, current.version() + 1);
+            onSwapped.accept(saved);
+            return Optional.of(saved);
+        }
+    }
+
+    /**
+     * 캐시에 없으면 테이블에서 읽어 적재한다. (유저 락 안에서 호출)
+     */
+    private UserPoint load(long id) {
+        // 락을 기다리는 동안 다른 스레드가 적재했거나 저장했을 수 있다.
+        UserPoint loaded = cache.peek(id);
+        if (loaded == null) {
+            UserPoint row = userPointTable.selectById(id);
+            loaded = new UserPoint(row.id(), row.point(), row.updateMillis(), generation());
+            cache.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시를 끈 경우의 조회 : 테이블을 락 없이 읽고, 읽기 전후의 version 이 같을 때의 version 을 붙인다.
+     * 저장은 테이블을 먼저 바꾼 뒤 version 을 올리므로, 읽는 도중 저장되었다면 예전 version 이 붙어
+     * 이 결과로 하는 compareAndSet 은 실패한다. (새 잔고에 새 version 이 붙는 일은 없다)
+     */
+    private UserPoint readThrough(long id) {
+        while (true) {
+            Long before = versions.peek(id);
+            UserPoint row = userPointTable.selectById(id);
+            Long after = versions.peek(id);
+            if (Objects.equals(before, after)) {
+                return new UserPoint(row.id(), row.point(), row.updateMillis(), before != null ? before : generation());
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 마지막 version (없으면 현재 세대의 첫 version, 유저 락 안에서 호출)
+     */
+    private long storedVersion(long id) {
+        if (cache != null) {
+            UserPoint cached = cache.peek(id);
+            return cached != null ? cached.version() : generation();
+        }
+        Long version = versions.peek(id);
+        return version != null ? version : generation();
+    }
+
+    /**
+     * 캐시에 없는 유저의 첫 version
+     * 유저가 캐시에서 제거되면 제거 횟수가 늘어나므로, 제거 전에 읽은 어떤 version 보다도 크다.
+     * (같은 세그먼트 락을 거쳐 항목이 없는 것을 확인한 뒤 읽으므로, 그 유저의 제거는 항상 반영되어 있다)
+     */
+    private long generation() {
+        return (cache != null ? cache.evictionCount() : versions.evictionCount()) << GENERATION_SHIFT;
+    }
+
+    private UserPoint write(long id, long point, long version) {
+        UserPoint inserted = userPointTable.insertOrUpdate(id, point);
+        UserPoint saved = new UserPoint(inserted.id(), inserted.point(), inserted.updateMillis(), version);
+        if (cache != null) {
+            cache.put(id, saved);
+        } else {
+            versions.put(id, version);
+        }
+        return saved;
+    }
+
+    /**
+     * 잔고 캐시 지표
+     * - point.balance.cache.requests (result=hit|miss), point.balance.cache.evictions, point.balance.cache.size
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache == null) {
+            return;
+        }
+        FunctionCounter.builder("point.balance.cache.requests", cache, LruCache::hitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.balance.cache.requests", cache, LruCache::missCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.balance.cache.evictions", cache, LruCache::evictionCount)
+                .register(registry);
+        Gauge.builder("point.balance.cache.size", cache, LruCache::size)
+                .register(registry);
+    }
+
+    /**
+     * 캐시 적중/미스 통계 조회용 (비활성화 시 empty)
+     */
+    public Optional<LruCache<Long, UserPoint>> cache() {
+        return Optional.ofNullable(cache);
     }
 
 }
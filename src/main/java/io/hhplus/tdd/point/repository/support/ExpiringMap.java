@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.repository.support;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기와 보관 시간이 제한된 맵
+ * - 항목은 저장 후 ttl 이 지나면 만료된다. (만료된 항목은 조회되지 않는다)
+ * - 저장 순서대로 대기열에 넣어 두고, 저장할 때마다 대기열 앞쪽의 만료된 항목과 최대 크기를 넘은 오래된 항목을 제거한다.
+ *   (ttl 이 모두 같으므로 저장 순서가 곧 만료 순서다)
+ * - 조회는 ConcurrentHashMap 조회 한 번이며 락을 잡지 않는다.
+ */
+public class ExpiringMap<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringMap(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    public ExpiringMap(int maxSize, long ttlMillis, LongSupplier nanoClock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(nanoClock.getAsLong())) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 만료되지 않은 값이 있으면 그 값을 반환하고, 없으면 value 를 저장한 뒤 null 을 반환한다.
+     */
+    public V putIfAbsent(K key, V value) {
+        long now = nanoClock.getAsLong();
+        Entry<K, V> created = new Entry<>(key, value, now + ttlNanos);
+        Entry<K, V> current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now) ? created : existing);
+        if (current != created) {
+            return current.value;
+        }
+        insertionOrder.offer(created);
+        evict(now);
+        return null;
+    }
+
+    /**
+     * key 의 값이 value 일 때만 제거한다.
+     */
+    public boolean remove(K key, V value) {
+        Entry<K, V> entry = entries.get(key);
+        return entry != null && entry.value == value && entries.remove(key, entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void evict(long now) {
+        Entry<K, V> eldest;
+        while ((eldest = insertionOrder.peek()) != null
+                && (eldest.isExpired(now) || entries.size() > maxSize || entries.get(eldest.key) != eldest)) {
+            if (insertionOrder.remove(eldest) && entries.remove(eldest.key, eldest) && !eldest.isExpired(now)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 같은 key 로 다시 저장된 항목과 구분하기 위해 동일성(==)으로 비교한다.
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(K key, V value, long expiresAtNanos) {
+            this.key = key;
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
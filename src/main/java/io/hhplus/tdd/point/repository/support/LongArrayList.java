@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.repository.support;
+
+import java.util.Arrays;
+
+/**
+ * long 값을 박싱 없이 담는 가변 길이 목록
+ * - 추가만 지원하며, 동기화는 사용하는 쪽에서 처리한다.
+ */
+public class LongArrayList {
+
+    private long[] values;
+    private int size;
+
+    public LongArrayList() {
+        this(8);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        this.values = new long[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * from 부터 to 직전까지의 값을 복사한다.
+     */
+    public long[] copyOfRange(int from, int to) {
+        return Arrays.copyOfRange(values, from, Math.min(to, size));
+    }
+
+    /**
+     * 할당된 배열 크기 기준 메모리 사용량 (byte)
+     */
+    public long capacityBytes() {
+        return (long) values.length * Long.BYTES;
+    }
+}
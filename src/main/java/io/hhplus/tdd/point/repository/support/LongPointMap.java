@@ -0,0 +1,266 @@
+package io.hhplus.tdd.point.repository.support;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 id(long) -> (point, updateMillis, version) 을 박싱 없이 보관하는 open-addressing 맵
+ * - 슬롯 하나는 long 4개(key, point, updateMillis, version)이며, 모든 슬롯을 하나의 LongBuffer 에 연속으로 둔다.
+ * - offHeap 이면 direct buffer 를 사용하여 GC 대상 객체 없이 보관한다.
+ * - key 0 은 빈 슬롯을 의미하므로 저장할 수 없다. (유저 id 는 1 이상)
+ * - 유저 id 해시로 세그먼트를 나누고, 세그먼트마다 StampedLock 으로 쓰기를 보호한다. 조회는 낙관적 읽기로 처리한다.
+ * - 제거는 지원하지 않는다. (잔고는 한 번 생기면 사라지지 않는다)
+ */
+public class LongPointMap {
+
+    static final int SLOT_LONGS = 4;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final boolean offHeap;
+
+    public LongPointMap(int segments, int initialCapacity, boolean offHeap) {
+        int segmentCount = tableSizeFor(Math.max(segments, 1));
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        this.offHeap = offHeap;
+        int segmentCapacity = tableSizeFor(Math.max(initialCapacity / segmentCount, 16));
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * 저장된 잔고를 반환한다. (없으면 null)
+     */
+    public UserPoint get(long id) {
+        return segmentOf(id).get(id);
+    }
+
+    public void put(long id, long point, long updateMillis, long version) {
+        checkKey(id);
+        segmentOf(id).put(id, point, updateMillis, version, Condition.ALWAYS, 0);
+    }
+
+    /**
+     * 저장된 version 이 expectedVersion 일 때만 저장한다. (저장된 값이 없으면 version 0 으로 본다)
+     */
+    public boolean compareAndPut(long id, long expectedVersion, long point, long updateMillis, long version) {
+        checkKey(id);
+        return segmentOf(id).put(id, point, updateMillis, version, Condition.VERSION_EQUALS, expectedVersion);
+    }
+
+    /**
+     * 저장된 version 이 version 이하일 때만 저장한다. (로그 재적용 시 순서와 관계없이 최신 version 만 남긴다)
+     */
+    public boolean putIfNewer(long id, long point, long updateMillis, long version) {
+        checkKey(id);
+        return segmentOf(id).put(id, point, updateMillis, version, Condition.VERSION_NOT_AFTER, version);
+    }
+
+    /**
+     * 모든 항목을 순회한다. 세그먼트 단위로 읽기 락을 잡으므로, 순회 중 다른 세그먼트의 변경은 반영될 수 있다.
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * 슬롯 배열이 차지하는 메모리 (byte)
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += (long) segment.table.slots.capacity() * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    private Segment segmentOf(long id) {
+        return segments[(int) (mix(id) >>> 40) & segmentMask];
+    }
+
+    private static void checkKey(long id) {
+        if (id == 0) {
+            throw new IllegalArgumentException("id 0 is reserved for empty slots");
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return n <= 0 ? 1 << 30 : n;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long id, long point, long updateMillis, long version);
+    }
+
+    private enum Condition {
+        ALWAYS, VERSION_EQUALS, VERSION_NOT_AFTER
+    }
+
+    /**
+     * 조회 중에 크기 조정으로 배열이 바뀌어도 같은 배열과 mask 를 보도록 함께 묶는다.
+     */
+    private record Table(LongBuffer slots, int mask) {
+    }
+
+    private final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table;
+        private int size;
+
+        private Segment(int capacity) {
+            this.table = new Table(allocate(capacity), capacity - 1);
+        }
+
+        private UserPoint get(long id) {
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = find(table, id);
+            if (lock.validate(stamp)) {
+                return userPoint;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(table, id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private UserPoint find(Table table, long id) {
+            LongBuffer slots = table.slots();
+            int index = (int) mix(id) & table.mask();
+            for (int probe = 0; probe <= table.mask(); probe++) {
+                int base = index * SLOT_LONGS;
+                long key = slots.get(base);
+                if (key == 0) {
+                    return null;
+                }
+                if (key == id) {
+                    return new UserPoint(id, slots.get(base + 1), slots.get(base + 2), slots.get(base + 3));
+                }
+                index = (index + 1) & table.mask();
+            }
+            return null;
+        }
+
+        private boolean put(long id, long point, long updateMillis, long version, Condition condition, long comparedVersion) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int index = slotOf(current, id);
+                int base = index * SLOT_LONGS;
+                boolean exists = current.slots().get(base) == id;
+                long storedVersion = exists ? current.slots().get(base + 3) : 0;
+                boolean accepted = switch (condition) {
+                    case ALWAYS -> true;
+                    case VERSION_EQUALS -> storedVersion == comparedVersion;
+                    case VERSION_NOT_AFTER -> !exists || storedVersion <= comparedVersion;
+                };
+                if (!accepted) {
+                    return false;
+                }
+                if (!exists && size + 1 > (current.mask() + 1) * LOAD_FACTOR) {
+                    current = resize(current);
+                    base = slotOf(current, id) * SLOT_LONGS;
+                }
+                LongBuffer slots = current.slots();
+                slots.put(base + 1, point);
+                slots.put(base + 2, updateMillis);
+                slots.put(base + 3, version);
+                slots.put(base, id);
+                if (!exists) {
+                    size++;
+                }
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // id 가 저장된 슬롯, 없으면 id 를 넣을 빈 슬롯
+        private int slotOf(Table table, long id) {
+            LongBuffer slots = table.slots();
+            int index = (int) mix(id) & table.mask();
+            while (true) {
+                long key = slots.get(index * SLOT_LONGS);
+                if (key == 0 || key == id) {
+                    return index;
+                }
+                index = (index + 1) & table.mask();
+            }
+        }
+
+        private Table resize(Table current) {
+            int capacity = (current.mask() + 1) << 1;
+            Table next = new Table(allocate(capacity), capacity - 1);
+            LongBuffer slots = current.slots();
+            for (int i = 0; i <= current.mask(); i++) {
+                int base = i * SLOT_LONGS;
+                long key = slots.get(base);
+                if (key == 0) {
+                    continue;
+                }
+                int target = slotOf(next, key) * SLOT_LONGS;
+                for (int j = 0; j < SLOT_LONGS; j++) {
+                    next.slots().put(target + j, slots.get(base + j));
+                }
+            }
+            table = next;
+            return next;
+        }
+
+        private void forEach(EntryConsumer consumer) {
+            long stamp = lock.readLock();
+            try {
+                LongBuffer slots = table.slots();
+                for (int i = 0; i <= table.mask(); i++) {
+                    int base = i * SLOT_LONGS;
+                    long key = slots.get(base);
+                    if (key != 0) {
+                        consumer.accept(key, slots.get(base + 1), slots.get(base + 2), slots.get(base + 3));
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private LongBuffer allocate(int capacity) {
+            int longs = Math.multiplyExact(capacity, SLOT_LONGS);
+            if (offHeap) {
+                return ByteBuffer.allocateDirect(Math.multiplyExact(longs, Long.BYTES))
+                        .order(ByteOrder.nativeOrder())
+                        .asLongBuffer();
+            }
+            return LongBuffer.allocate(longs);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.repository.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기가 제한된 LRU 캐시
+ * - 키 해시로 나눈 세그먼트마다 LRU 순서와 락을 따로 둔다. (조회도 순서를 바꾸므로, 락 하나를 두면 모든 조회가 한 줄로 선다)
+ * - 세그먼트 안에서 최대 크기를 넘으면 가장 오래 조회되지 않은 항목부터 제거한다. (전체 기준으로는 근사 LRU)
+ * - 세그먼트 하나가 MIN_SEGMENT_SIZE 이상을 담도록 세그먼트 수를 정하므로, 작은 캐시는 세그먼트 하나(정확한 LRU)로 동작한다.
+ */
+public class LruCache<K, V> {
+
+    static final int MIN_SEGMENT_SIZE = 1024;
+    static final int MAX_SEGMENTS = 64;
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxSize) {
+        int count = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(maxSize / MIN_SEGMENT_SIZE, 1))));
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        // 세그먼트 크기 합이 maxSize 가 되도록 나머지를 앞 세그먼트부터 하나씩 더 준다.
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0), evictions);
+        }
+    }
+
+    public V get(K key) {
+        V value = peek(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 적중/미스 통계에 포함하지 않고 조회한다. (저장 경로에서 이전 값을 확인할 때 사용)
+     */
+    public V peek(K key) {
+        Segment<K, V> segment = segment(key);
+        segment.lock.lock();
+        try {
+            return segment.entries.get(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segment(key);
+        segment.lock.lock();
+        try {
+            segment.entries.put(key, value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 값이 있으면 덮어쓰지 않는다.
+     */
+    public void putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segment(key);
+        segment.lock.lock();
+        try {
+            segment.entries.putIfAbsent(key, value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<K, V> segment(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, V> entries;
+
+        private Segment(int maxSize, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    boolean evict = size() > maxSize;
+                    if (evict) {
+                        evictions.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.hhplus.tdd.point.repository.wal;
+
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 잔고 스냅샷 파일 저장소
+ * - 스냅샷은 특정 로그 seq 까지의 변경이 모두 반영된 잔고 목록이다. (이후 변경이 일부 섞여 있을 수 있으나, 재적용 시 version 으로 정리된다)
+ * - 임시 파일에 모두 기록한 뒤 이름을 바꾸므로, 끝까지 기록된 스냅샷만 보인다.
+ * - 최신 스냅샷 하나만 남기고 이전 스냅샷은 삭제한다.
+ *
+ * 파일 구조
+ * | magic (8) | seq (8) | count (8) | (id, point, updateMillis, version) * count | checksum (8) |
+ */
+@Slf4j
+public class BalanceSnapshotStore {
+
+    static final long MAGIC = 0x504F494E54534E50L; // "POINTSNP"
+    static final String SNAPSHOT_PREFIX = "snapshot-";
+    static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private static final int HEADER_SIZE = 24;
+    private static final int ENTRY_SIZE = 32;
+    private static final int BUFFER_SIZE = ENTRY_SIZE * 32768;
+
+    private final Path directory;
+
+    public BalanceSnapshotStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷 디렉터리를 만들 수 없습니다. " + directory, e);
+        }
+    }
+
+    /**
+     * 가장 최신 스냅샷의 헤더를 읽는다.
+     */
+    public Optional<Snapshot> latest() {
+        List<Path> snapshots = snapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path file = snapshots.get(i);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                while (header.hasRemaining() && channel.read(header) > 0) {
+                }
+                header.flip();
+                if (header.remaining() == HEADER_SIZE && header.getLong() == MAGIC) {
+                    long seq = header.getLong();
+                    long count = header.getLong();
+                    if (channel.size() == HEADER_SIZE + count * ENTRY_SIZE + Long.BYTES) {
+                        return Optional.of(new Snapshot(file, seq, count));
+                    }
+                }
+                log.warn("잔고 스냅샷이 손상되어 건너뜁니다. {}", file);
+            } catch (IOException e) {
+                log.warn("잔고 스냅샷을 읽지 못해 건너뜁니다. {}", file, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 스냅샷의 잔고를 map 에 채운다. checksum 이 맞지 않으면 예외를 던진다.
+     */
+    public void load(Snapshot snapshot, LongPointMap map) {
+        try (FileChannel channel = FileChannel.open(snapshot.file(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            channel.position(HEADER_SIZE);
+            long remaining = snapshot.count();
+            long checksum = 0;
+            while (remaining > 0) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining * ENTRY_SIZE));
+                while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                }
+                buffer.flip();
+                if (buffer.remaining() < ENTRY_SIZE) {
+                    throw new IllegalStateException("잔고 스냅샷이 중간에 끊겼습니다. " + snapshot.file());
+                }
+                while (buffer.remaining() >= ENTRY_SIZE) {
+                    long id = buffer.getLong();
+                    long point = buffer.getLong();
+                    long updateMillis = buffer.getLong();
+                    long version = buffer.getLong();
+                    map.put(id, point, updateMillis, version);
+                    checksum = mix(checksum, id, point, updateMillis, version);
+                    remaining--;
+                }
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+            while (trailer.hasRemaining() && channel.read(trailer) > 0) {
+            }
+            if (trailer.flip().getLong() != checksum) {
+                throw new IllegalStateException("잔고 스냅샷 checksum 이 맞지 않습니다. " + snapshot.file());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷을 읽을 수 없습니다. " + snapshot.file(), e);
+        }
+    }
+
+    /**
+     * map 의 잔고를 seq 기준 스냅샷으로 기록하고, 이전 스냅샷을 삭제한다.
+     */
+    public Snapshot write(long seq, LongPointMap map) {
+        Path target = directory.resolve(SNAPSHOT_PREFIX + String.format("%020d", seq) + SNAPSHOT_SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        long[] count = {0};
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            channel.position(HEADER_SIZE);
+            long[] checksum = {0};
+            map.forEach((id, point, updateMillis, version) -> {
+                if (buffer.remaining() < ENTRY_SIZE) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(id).putLong(point).putLong(updateMillis).putLong(version);
+                checksum[0] = mix(checksum[0], id, point, updateMillis, version);
+                count[0]++;
+            });
+            if (buffer.remaining() < Long.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(checksum[0]);
+            drain(channel, buffer);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putLong(MAGIC).putLong(seq).putLong(count[0]).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER_SIZE - header.remaining());
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷을 기록할 수 없습니다. " + target, e);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (Path previous : snapshots()) {
+                if (!previous.equals(target)) {
+                    Files.deleteIfExists(previous);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷을 교체할 수 없습니다. " + target, e);
+        }
+        return new Snapshot(target, seq, count[0]);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷을 기록할 수 없습니다.", e);
+        }
+        buffer.clear();
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SNAPSHOT_PREFIX)
+                            && file.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷 목록을 읽을 수 없습니다. " + directory, e);
+        }
+    }
+
+    private static long mix(long checksum, long id, long point, long updateMillis, long version) {
+        long hash = ((id * 31 + point) * 31 + updateMillis) * 31 + version;
+        hash *= 0x9E3779B97F4A7C15L;
+        // 순서에 관계없이 같은 값이 나오도록 더한다.
+        return checksum + (hash ^ (hash >>> 29));
+    }
+
+    /**
+     * count : 스냅샷에 담긴 유저 수 (복구 시 map 크기를 미리 맞추는 데 사용)
+     */
+    public record Snapshot(Path file, long seq, long count) {
+    }
+}
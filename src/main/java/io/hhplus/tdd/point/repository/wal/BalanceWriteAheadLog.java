@@ -0,0 +1,287 @@
+package io.hhplus.tdd.point.repository.wal;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 잔고 변경 write-ahead log
+ * - 잔고가 바뀔 때마다 (seq, id, point, updateMillis, version, checksum) 고정 길이 레코드를 파일 끝에 추가한다.
+ * - 스냅샷을 만들 때 roll 로 새 세그먼트 파일을 시작하고, 스냅샷에 포함된 이전 세그먼트는 삭제한다.
+ * - 재적용 시 checksum 이 맞지 않는 레코드(기록 도중 종료된 마지막 레코드)에서 해당 세그먼트 읽기를 멈춘다.
+ * - sync : EVERY_WRITE 이면 레코드마다 디스크에 강제 기록하고, INTERVAL 이면 sync() 호출 시점(주기적)에 기록한다.
+ * - 기록에 실패하면 그 레코드를 잘라내 다음 레코드가 끊긴 레코드 뒤에 붙지 않게 한다. (자를 수 없으면 새 세그먼트로 넘어간다)
+ * - 파일 I/O 는 synchronized 대신 ReentrantLock 안에서 한다. (가상 스레드가 I/O 대기 중 캐리어 스레드를 점유하지 않는다)
+ *
+ * 레코드 구조 (48 byte)
+ * | seq (8) | id (8) | point (8) | updateMillis (8) | version (8) | checksum (8) |
+ */
+@Slf4j
+public class BalanceWriteAheadLog implements AutoCloseable {
+
+    static final int RECORD_SIZE = 48;
+    static final String SEGMENT_PREFIX = "balance-";
+    static final String SEGMENT_SUFFIX = ".wal";
+
+    private static final int READ_BUFFER_SIZE = RECORD_SIZE * 16384;
+
+    private final Path directory;
+    private final WalSyncMode syncMode;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+    private volatile long lastSeq;
+    private boolean dirty;
+    private boolean closed;
+
+    /**
+     * lastSeq 이후 번호부터 새 세그먼트에 기록한다.
+     * 기존 세그먼트에는 이어 쓰지 않는다. (마지막 레코드가 끊겨 있을 수 있다)
+     */
+    public BalanceWriteAheadLog(Path directory, WalSyncMode syncMode, long lastSeq) {
+        this.directory = directory;
+        this.syncMode = syncMode;
+        this.lastSeq = lastSeq;
+        try {
+            Files.createDirectories(directory);
+            this.channel = openSegment(lastSeq + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 로그를 열 수 없습니다. " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드를 기록하고 seq 를 반환한다. 실패하면 예외를 던지며, 기록 중이던 레코드는 남기지 않는다.
+     */
+    public long append(UserPoint userPoint) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("잔고 로그가 닫혀 있습니다.");
+            }
+            long seq = lastSeq + 1;
+            record.clear();
+            record.putLong(seq)
+                    .putLong(userPoint.id())
+                    .putLong(userPoint.point())
+                    .putLong(userPoint.updateMillis())
+                    .putLong(userPoint.version())
+                    .putLong(checksum(seq, userPoint.id(), userPoint.point(), userPoint.updateMillis(), userPoint.version()))
+                    .flip();
+            long start = -1;
+            try {
+                start = channel.position();
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+                if (syncMode == WalSyncMode.EVERY_WRITE) {
+                    channel.force(false);
+                } else {
+                    dirty = true;
+                }
+            } catch (IOException e) {
+                discard(start, seq);
+                throw new UncheckedIOException("잔고 로그를 기록할 수 없습니다.", e);
+            }
+            lastSeq = seq;
+            return seq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 디스크에 강제 기록하지 않은 레코드를 기록한다.
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            if (!dirty || closed) {
+                return;
+            }
+            channel.force(false);
+            dirty = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 로그를 디스크에 기록할 수 없습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트를 시작한다.
+     * 반환한 seq 까지의 레코드는 모두 이전 세그먼트에 있다.
+     */
+    public long roll() {
+        lock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+            channel = openSegment(lastSeq + 1);
+            dirty = false;
+            return lastSeq;
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 로그 세그먼트를 바꿀 수 없습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * seq 이하 레코드만 담긴 세그먼트를 삭제한다. (현재 기록 중인 세그먼트는 남긴다)
+     */
+    public void deleteSegmentsUpTo(long seq) {
+        lock.lock();
+        try {
+            List<Path> segments = segments(directory);
+            for (int i = 0; i < segments.size() - 1; i++) {
+                // 다음 세그먼트의 시작 번호 - 1 이 이 세그먼트의 마지막 번호
+                if (firstSeq(segments.get(i + 1)) - 1 <= seq) {
+                    try {
+                        Files.deleteIfExists(segments.get(i));
+                    } catch (IOException e) {
+                        log.warn("잔고 로그 세그먼트를 삭제하지 못했습니다. {}", segments.get(i), e);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("잔고 로그를 닫지 못했습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기록에 실패한 레코드를 잘라낸다. 자를 수 없으면(채널이 닫힌 경우 등) seq 부터 새 세그먼트에 기록한다.
+     */
+    private void discard(long start, long seq) {
+        try {
+            if (start < 0) {
+                throw new IOException("기록 위치를 알 수 없습니다.");
+            }
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException truncateFailure) {
+            try {
+                channel.close();
+                channel = openSegment(seq);
+            } catch (IOException e) {
+                log.error("잔고 로그 세그먼트를 새로 열지 못했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * afterSeq 보다 큰 레코드를 순서대로 전달하고, 마지막으로 읽은 seq 를 반환한다.
+     */
+    public static long replay(Path directory, long afterSeq, RecordConsumer consumer) {
+        long last = afterSeq;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        for (Path segment : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                last = Math.max(last, replaySegment(channel, buffer, afterSeq, consumer));
+            } catch (IOException e) {
+                throw new UncheckedIOException("잔고 로그를 읽을 수 없습니다. " + segment, e);
+            }
+        }
+        return last;
+    }
+
+    private static long replaySegment(FileChannel channel, ByteBuffer buffer, long afterSeq, RecordConsumer consumer) throws IOException {
+        long last = afterSeq;
+        long previous = 0;
+        buffer.clear();
+        while (channel.read(buffer) > 0 || buffer.position() > 0) {
+            buffer.flip();
+            if (buffer.remaining() < RECORD_SIZE) {
+                // 파일 끝에 남은 일부 레코드 (기록 도중 종료)
+                return last;
+            }
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long seq = buffer.getLong();
+                long id = buffer.getLong();
+                long point = buffer.getLong();
+                long updateMillis = buffer.getLong();
+                long version = buffer.getLong();
+                // 0 으로 채워진 영역도 checksum 이 맞으므로, seq 가 증가하는지 함께 확인한다.
+                if (buffer.getLong() != checksum(seq, id, point, updateMillis, version) || seq <= previous) {
+                    return last;
+                }
+                previous = seq;
+                if (seq > afterSeq) {
+                    consumer.accept(seq, id, point, updateMillis, version);
+                    last = seq;
+                }
+            }
+            buffer.compact();
+        }
+        return last;
+    }
+
+    private FileChannel openSegment(long firstSeq) throws IOException {
+        return FileChannel.open(directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSeq) + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 로그 목록을 읽을 수 없습니다. " + directory, e);
+        }
+    }
+
+    private static long firstSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static long checksum(long seq, long id, long point, long updateMillis, long version) {
+        long hash = seq;
+        hash = hash * 31 + id;
+        hash = hash * 31 + point;
+        hash = hash * 31 + updateMillis;
+        hash = hash * 31 + version;
+        hash *= 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long seq, long id, long point, long updateMillis, long version);
+    }
+}
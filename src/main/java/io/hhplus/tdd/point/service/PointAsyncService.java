@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import jdk.jfr.Description;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 포인트 API
+ * - 요청을 유저별 대기열에 넣고 바로 CompletableFuture 를 반환한다. (호출 스레드는 락이나 테이블 I/O 를 기다리지 않는다)
+ * - 같은 유저의 요청은 들어온 순서대로 하나씩 처리되므로, 먼저 요청한 충전/사용 결과를 이후 조회에서 볼 수 있다.
+ */
+public interface PointAsyncService {
+
+    @Description("특정 유저 포인트 비동기 조회")
+    CompletableFuture<UserPoint> getPoint(UserIdCommand command);
+
+    @Description("특정 유저 포인트 충전/이용 내역 비동기 조회")
+    CompletableFuture<List<PointHistory>> getHistory(UserIdCommand command);
+
+    @Description("특정 유저 포인트 비동기 충전")
+    CompletableFuture<UserPoint> chargePoint(UserPointCommand command);
+
+    @Description("특정 유저 포인트 비동기 사용")
+    CompletableFuture<UserPoint> usePoint(UserPointCommand command);
+
+}
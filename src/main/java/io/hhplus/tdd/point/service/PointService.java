@@ -1,13 +1,20 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.command.PointBatchCommand;
+import io.hhplus.tdd.point.command.PointHistoryQueryCommand;
 import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.PointTransferCommand;
 import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointTransferResult;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import jdk.jfr.Description;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Validated
 public interface PointService {
@@ -18,10 +25,33 @@ public interface PointService {
     @Description("특정 유저 포인트 충전/이용 내역 조회")
     List<PointHistory> getHistory(UserIdCommand command);
 
+    @Description("특정 유저 포인트 충전/이용 내역 커서 조회")
+    PointHistoryPage getHistory(PointHistoryQueryCommand command);
+
+    /**
+     * 조건에 맞는 내역을 목록으로 모으지 않고 읽는 대로 흘려보낸다.
+     * 반환된 Stream 은 사용 후 닫아야 한다.
+     */
+    @Description("특정 유저 포인트 충전/이용 내역 스트림 조회")
+    Stream<PointHistory> streamHistory(PointHistoryQueryCommand command);
+
     @Description("특정 유저 포인트 충전")
     UserPoint chargePoint(UserPointCommand command);
 
     @Description("특정 유저 포인트 사용")
     UserPoint usePoint(UserPointCommand command);
 
+    /**
+     * 보내는 유저의 잔고를 차감하고 받는 유저의 잔고를 적립한다.
+     * 보내는 유저에게 TRANSFER_OUT, 받는 유저에게 TRANSFER_IN 히스토리를 남긴다.
+     * - LOCK 모드(두 유저의 락)와 같은 파티션끼리의 PARTITIONED 전송(전담 스레드 하나)은 두 잔고를 함께 반영한다.
+     * - 두 잔고를 함께 반영할 수 없는 OPTIMISTIC 모드와 다른 파티션끼리의 PARTITIONED 전송은
+     *   어느 잔고도 바꾸지 않고 TRANSFER_NOT_SUPPORTED 로 실패한다.
+     */
+    @Description("유저 간 포인트 전송")
+    PointTransferResult transferPoint(PointTransferCommand command);
+
+    @Description("여러 유저 포인트 일괄 충전/사용")
+    List<PointBatchResult> executeBatch(PointBatchCommand command);
+
 }
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.command.PointSummaryQueryCommand;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import jdk.jfr.Description;
+
+/**
+ * 포인트 내역 요약 API
+ * - 히스토리를 모두 읽어 더하지 않고, 저장 시점에 쌓아 둔 시간/일/월 구간 합계를 읽는다.
+ */
+public interface PointSummaryService {
+
+    @Description("특정 유저 포인트 내역 요약 조회")
+    PointHistorySummary getSummary(PointSummaryQueryCommand command);
+
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.executor.UserSerialExecutor;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 실행기(UserSerialExecutor)에서 PointService 를 호출하는 비동기 API
+ * - 비동기 요청끼리는 실행기가 유저별로 하나씩 처리하므로 유저 락을 두고 경합하지 않는다.
+ * - 동기 API 와 같은 유저를 동시에 변경할 수 있으므로, 실제 처리는 동기 API 와 같은 경로(락 또는 compareAndSet)로 한다.
+ *   (멱등성 키, 잔고 정책, 히스토리 저장도 동기 API 와 같다)
+ *   mailbox 가 비동기 요청끼리의 순서를 보장하더라도 락을 생략할 수는 없다. 락을 기다리는 시간은 전용 실행 스레드가 부담한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointAsyncServiceImpl implements PointAsyncService {
+
+    private final PointService pointService;
+    private final UserSerialExecutor userSerialExecutor;
+
+    @Override
+    public CompletableFuture<UserPoint> getPoint(UserIdCommand command) {
+        return userSerialExecutor.submit(command.id(), withDeadline(() -> pointService.getPoint(command)));
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> getHistory(UserIdCommand command) {
+        return userSerialExecutor.submit(command.id(), withDeadline(() -> pointService.getHistory(command)));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargePoint(UserPointCommand command) {
+        return userSerialExecutor.submit(command.id(), withDeadline(() -> pointService.chargePoint(command)));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> usePoint(UserPointCommand command) {
+        return userSerialExecutor.submit(command.id(), withDeadline(() -> pointService.usePoint(command)));
+    }
+
+    /**
+     * 요청 스레드의 마감 시각을 실행기 스레드에서도 사용한다. (마감 시각이 지나 대기열에서 꺼낸 요청은 락을 기다리지 않는다)
+     */
+    private static <T> Supplier<T> withDeadline(Supplier<T> task) {
+        OptionalLong deadline = RequestDeadline.current();
+        return () -> RequestDeadline.callWith(deadline, task);
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+
+/**
+ * 잔고 정책
+ * 잔고 금액 범위 : 0 ~ 10,000,000 (1천만원)
+ */
+final class PointBalancePolicy {
+
+    static final long MAX_BALANCE = 10000000L;
+
+    private PointBalancePolicy() {
+    }
+
+    /**
+     * 현재 잔고에 충전/사용(전송 받음/보냄) 금액을 반영한 잔고를 반환한다.
+     * 잔고 범위를 벗어나면 BusinessException 을 던진다.
+     */
+    static long apply(long point, TransactionType type, long amount) {
+        return switch (type) {
+            case CHARGE, TRANSFER_IN -> {
+                long chargedPoint = point + amount;
+                // 잔고 최대 금액(10,000,000) 검사
+                if (chargedPoint > MAX_BALANCE) {
+                    throw new BusinessException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+                }
+                yield chargedPoint;
+            }
+            case USE, TRANSFER_OUT -> {
+                long usedPoint = point - amount;
+                // 잔고 부족 검사
+                if (usedPoint < 0) {
+                    throw new BusinessException(PointErrorCode.INSUFFICIENT_BALANCE);
+                }
+                yield usedPoint;
+            }
+        };
+    }
+}
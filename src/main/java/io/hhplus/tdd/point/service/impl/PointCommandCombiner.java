@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 같은 유저의 충전/사용 요청을 모아서 처리하는 group-commit 처리기
+ * - 요청은 유저별 대기열에 쌓이고, 유저 락을 잡은 스레드가 대기열을 비우며 모든 요청을 대신 처리한다.
+ * - 요청마다 순서대로 잔고 정책을 검사하여 각자의 성공/실패 결과를 받는다.
+ * - 성공한 요청들의 최종 잔고는 한 번만 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointCommandCombiner {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointConcurrencyProperties properties;
+    private final UserLockManager userLockManager;
+
+    private final ConcurrentMap<Long, Queue<PendingCommand>> pendings = new ConcurrentHashMap<>();
+
+    public UserPoint submit(UserPointCommand command, TransactionType type) {
+        PendingCommand pending = new PendingCommand(command, type, new CompletableFuture<>());
+        Queue<PendingCommand> queue = pendings.computeIfAbsent(command.id(), id -> new ConcurrentLinkedQueue<>());
+        queue.add(pending);
+
+        try (UserLock ignored = acquire(command.id(), queue, pending)) {
+            // 먼저 락을 잡은 스레드가 이미 처리했다면 결과만 가져간다.
+            while (!pending.result().isDone()) {
+                drainOrWithdraw(command.id(), queue, pending);
+            }
+        }
+        if (queue.isEmpty()) {
+            // 남은 요청이 다른 대기열로 들어가더라도, 요청한 스레드가 자신이 넣은 대기열을 직접 비우므로 유실되지 않는다.
+            pendings.remove(command.id(), queue);
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 락 대기 제한에 걸리면 대기열에서 요청을 빼고 실패한다.
+     * 이미 다른 스레드가 꺼내 처리 중이면 그 결과를 기다린다. (실패 응답 후에 반영되는 일이 없도록)
+     */
+    private UserLock acquire(long userId, Queue<PendingCommand> queue, PendingCommand pending) {
+        try {
+            return userLockManager.acquire(userId);
+        } catch (BusinessException e) {
+            if (queue.remove(pending)) {
+                throw e;
+            }
+            // 결과(성공/실패)는 아래에서 꺼내므로 끝나기만 기다린다.
+            pending.result().exceptionally(failure -> null).join();
+            return () -> {
+            };
+        }
+    }
+
+    /**
+     * 처리 도중(잔고 조회 등) 예외가 나면 자신의 요청을 대기열에서 빼고 실패한다.
+     * 대기열에 남겨 두면 다음 락 보유자가 처리하여, 실패로 응답한 요청이 반영될 수 있다.
+     * (이미 꺼내져 결과가 정해졌다면 그 결과를 따른다)
+     */
+    private void drainOrWithdraw(long userId, Queue<PendingCommand> queue, PendingCommand pending) {
+        try {
+            drain(userId, queue);
+        } catch (RuntimeException e) {
+            if (queue.remove(pending)) {
+                pending.result().completeExceptionally(e);
+            }
+            if (!pending.result().isDone()) {
+                throw e;
+            }
+        }
+    }
+
+    private void drain(long userId, Queue<PendingCommand> queue) {
+        // 기존 UserPoint 호출 (배치당 1회)
+        UserPoint userPoint = userPointRepository.findById(userId)
+                .orElse(UserPoint.empty(userId));
+
+        // 요청 순서대로 잔고 정책 검사
+        long point = userPoint.point();
+        List<PendingCommand> accepted = new ArrayList<>();
+        List<Long> balances = new ArrayList<>();
+        PendingCommand pending;
+        while (accepted.size() < properties.maxBatchSize() && (pending = queue.poll()) != null) {
+            try {
+                point = PointBalancePolicy.apply(point, pending.type(), pending.command().amount());
+                accepted.add(pending);
+                balances.add(point);
+            } catch (BusinessException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // userPoint 업데이트 (배치당 1회)
+        UserPoint savedUserPoint;
+        try {
+            savedUserPoint = userPointRepository.save(userPoint.changePoint(point));
+        } catch (RuntimeException e) {
+            accepted.forEach(command -> command.result().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingCommand command = accepted.get(i);
+            // 히스토리 삽입
+            pointHistoryWriter.append(PointHistory.makeEntity(userId, command.command().amount(), command.type(), savedUserPoint.updateMillis()));
+            command.result().complete(new UserPoint(userId, balances.get(i), savedUserPoint.updateMillis()));
+        }
+    }
+
+    private record PendingCommand(
+            UserPointCommand command,
+            TransactionType type,
+            CompletableFuture<UserPoint> result
+    ) {
+    }
+}
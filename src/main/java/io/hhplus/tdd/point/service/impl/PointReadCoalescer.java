@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 유저의 잔고 조회를 하나로 합치는 single-flight 처리기
+ * - 유저별로 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 함께 받는다.
+ * - 조회가 끝나면 바로 제거하므로 결과를 보관하지 않는다. (캐시가 아니다)
+ * - 잔고가 바뀌면 invalidate 로 진행 중인 조회를 떼어 내어, 변경 이후 시작한 조회가 변경 이전 결과를 받지 않도록 한다.
+ *   (이미 합류한 조회는 변경과 동시에 일어난 조회이므로 이전 결과를 받아도 된다)
+ */
+@Component
+public class PointReadCoalescer implements MeterBinder {
+
+    private final ConcurrentMap<Long, CompletableFuture<UserPoint>> flights = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public UserPoint read(long userId, Supplier<UserPoint> loader) {
+        CompletableFuture<UserPoint> flight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> inFlight = flights.putIfAbsent(userId, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+
+        executed.increment();
+        try {
+            UserPoint userPoint = loader.get();
+            flight.complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(userId, flight);
+        }
+    }
+
+    /**
+     * 잔고 변경 후 호출하여, 이후 조회가 진행 중인 (변경 이전) 조회에 합류하지 않도록 한다.
+     */
+    public void invalidate(long userId) {
+        flights.remove(userId);
+    }
+
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // 먼저 조회한 요청과 같은 예외를 던진다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 잔고 조회 합치기 지표
+     * - point.read.requests (result=executed|coalesced) : 직접 조회한 요청 수 / 진행 중인 조회에 합류한 요청 수
+     * - point.read.coalescing.ratio : 전체 조회 요청 중 합류한 요청의 비율
+     * - point.read.in_flight : 진행 중인 조회 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.read.requests", executed, LongAdder::sum)
+                .description("잔고 조회 요청 수")
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("point.read.requests", coalesced, LongAdder::sum)
+                .description("잔고 조회 요청 수")
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("point.read.coalescing.ratio", this, PointReadCoalescer::coalescingRatio)
+                .description("진행 중인 조회에 합류한 요청 비율")
+                .register(registry);
+        Gauge.builder("point.read.in_flight", flights, ConcurrentMap::size)
+                .description("진행 중인 잔고 조회 수")
+                .register(registry);
+    }
+
+    private double coalescingRatio() {
+        long coalescedCount = coalesced.sum();
+        long total = executed.sum() + coalescedCount;
+        return total == 0 ? 0 : (double) coalescedCount / total;
+    }
+}
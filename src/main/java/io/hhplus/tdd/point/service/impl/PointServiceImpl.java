@@ -1,23 +1,54 @@
 package io.hhplus.tdd.point.service.impl;
 
+import io.hhplus.tdd.point.command.PointBatchCommand;
+import io.hhplus.tdd.point.command.PointBatchItem;
+import io.hhplus.tdd.point.command.PointHistoryQueryCommand;
 import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.PointTransferCommand;
 import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointTransferResult;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
 import io.hhplus.tdd.point.enumtype.PointErrorCode;
 import io.hhplus.tdd.point.enumtype.TransactionType;
 import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.executor.PointBatchExecutor;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyStore;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointServiceImpl implements PointService {
@@ -31,85 +62,312 @@ public class PointServiceImpl implements PointService {
 
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
-
-    private final ConcurrentMap<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointCommandCombiner pointCommandCombiner;
+    private final PointConcurrencyProperties concurrencyProperties;
+    private final UserLockManager userLockManager;
+    private final PointBatchProperties batchProperties;
+    // 일괄 처리 시 유저별 작업을 실행하는 전용 실행기
+    private final PointBatchExecutor pointBatchExecutor;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointReadCoalescer pointReadCoalescer;
+    private final PointPartitionExecutor pointPartitionExecutor;
 
     @Override
     public UserPoint getPoint(UserIdCommand command) {
         // User 데이터가 존재하는지 검사해야 하지만, User 테이블이 없으므로 생략한다.
-        return userPointRepository.findById(command.id())
-                .orElse(UserPoint.empty(command.id()));
+        // 같은 유저를 동시에 조회하면 진행 중인 조회 한 번의 결과를 함께 받는다.
+        return pointReadCoalescer.read(command.id(), () -> userPointRepository.findById(command.id())
+                .orElse(UserPoint.empty(command.id())));
     }
 
     @Override
     public List<PointHistory> getHistory(UserIdCommand command) {
         // User 데이터가 존재하는지 검사해야 하지만, User 테이블이 없으므로 생략한다.
+        // 아직 저장 대기 중인 히스토리가 있다면 저장이 끝난 뒤 조회한다.
+        pointHistoryWriter.flush(command.id());
         return pointHistoryRepository.findAllByUserId(command.id());
     }
 
+    @Override
+    public PointHistoryPage getHistory(PointHistoryQueryCommand command) {
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 읽는다.
+        List<PointHistory> histories;
+        try (Stream<PointHistory> stream = findHistories(command)) {
+            histories = command.limit() == null
+                    ? stream.toList()
+                    : stream.limit(command.limit() + 1L).toList();
+        }
+        if (command.limit() == null || histories.size() <= command.limit()) {
+            return new PointHistoryPage(histories, null);
+        }
+        List<PointHistory> page = histories.subList(0, command.limit());
+        return new PointHistoryPage(page, page.get(page.size() - 1).id());
+    }
+
+    @Override
+    public Stream<PointHistory> streamHistory(PointHistoryQueryCommand command) {
+        Stream<PointHistory> histories = findHistories(command);
+        return command.limit() == null ? histories : histories.limit(command.limit());
+    }
+
+    private Stream<PointHistory> findHistories(PointHistoryQueryCommand command) {
+        // 아직 저장 대기 중인 히스토리가 있다면 저장이 끝난 뒤 조회한다.
+        pointHistoryWriter.flush(command.id());
+        return pointHistoryRepository.streamByUserId(command.id(), command.cursorOrZero())
+                .filter(command::matches);
+    }
+
     @Override
     public UserPoint chargePoint(UserPointCommand command) {
-        // 동일 ID에 대해 락을 걸어 동기화
-        ReentrantLock lock = locks.computeIfAbsent(command.id(), id -> new ReentrantLock(true));
-        lock.lock();
+        return updatePointIdempotently(command, TransactionType.CHARGE);
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointCommand command) {
+        return updatePointIdempotently(command, TransactionType.USE);
+    }
+
+    /**
+     * 멱등성 키가 있으면 락을 잡기 전에 같은 키로 처리한 결과가 있는지 먼저 확인한다.
+     */
+    private UserPoint updatePointIdempotently(UserPointCommand command, TransactionType type) {
+        if (command.idempotencyKey() == null) {
+            return updatePoint(command, type);
+        }
+        return pointIdempotencyStore.execute(command, type, () -> updatePoint(command, type));
+    }
+
+    @Override
+    public PointTransferResult transferPoint(PointTransferCommand command) {
         try {
-            // 기존 UserPoint 호출
-            UserPoint userPoint = userPointRepository.findById(command.id())
-                    .orElse(UserPoint.empty(command.id()));
+            return applyTransfer(command);
+        } finally {
+            pointReadCoalescer.invalidate(command.senderId());
+            pointReadCoalescer.invalidate(command.receiverId());
+        }
+    }
 
-            // 충전 후 포인트
-            Long chargedPoint = userPoint.point() + command.amount();
+    private PointTransferResult applyTransfer(PointTransferCommand command) {
+        // 락 없이 유저 한 명씩 compareAndSet 으로 바꾸므로 두 잔고를 함께 반영할 수 없다.
+        if (concurrencyProperties.mode() == PointConcurrencyMode.OPTIMISTIC) {
+            throw new BusinessException(PointErrorCode.TRANSFER_NOT_SUPPORTED);
+        }
 
-            // 잔고 최대 금액(10,000,000) 검사
-            if(chargedPoint > 10000000) {
-                throw new BusinessException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+        // 두 유저가 같은 파티션이면 전담 스레드 하나가 함께 처리한다. 다른 파티션끼리는 함께 반영할 수 없으므로 거부한다.
+        if (concurrencyProperties.mode() == PointConcurrencyMode.PARTITIONED) {
+            if (!pointPartitionExecutor.samePartition(command.senderId(), command.receiverId())) {
+                throw new BusinessException(PointErrorCode.TRANSFER_NOT_SUPPORTED);
             }
+            return submitToPartition(command.senderId(), () -> changeTransfer(command));
+        }
+
+        // 두 유저의 락을 정해진 순서로 잡아, A→B 와 B→A 전송이 동시에 와도 교착 상태가 생기지 않는다.
+        // (group-commit 처리기도 같은 유저 락 안에서 잔고를 바꾸므로 함께 사용해도 된다)
+        try (UserLock ignored = userLockManager.acquireBoth(command.senderId(), command.receiverId())) {
+            return changeTransfer(command);
+        }
+    }
 
-            // userPoint 업데이트
-            UserPoint updateUserPoint = userPoint.changePoint(chargedPoint);
-            UserPoint savedUserPoint = userPointRepository.save(updateUserPoint);
+    /**
+     * 두 유저의 잔고를 함께 바꾸고 히스토리를 남긴다.
+     * 두 유저를 동시에 변경하지 않도록 호출하는 쪽에서 보장해야 한다. (두 유저의 락 또는 같은 파티션 전담 스레드)
+     */
+    private PointTransferResult changeTransfer(PointTransferCommand command) {
+        UserPoint sender = userPointRepository.findById(command.senderId())
+                .orElse(UserPoint.empty(command.senderId()));
+        UserPoint receiver = userPointRepository.findById(command.receiverId())
+                .orElse(UserPoint.empty(command.receiverId()));
 
-            // 히스토리 삽입
-            PointHistory pointHistory = PointHistory.makeEntity(command.id(), command.amount(), TransactionType.CHARGE, savedUserPoint.updateMillis());
-            pointHistoryRepository.save(pointHistory);
+        // 두 잔고를 모두 검사한 뒤에 저장하므로, 한쪽만 검사를 통과해 반영되는 일이 없다.
+        long senderPoint = PointBalancePolicy.apply(sender.point(), TransactionType.TRANSFER_OUT, command.amount());
+        long receiverPoint = PointBalancePolicy.apply(receiver.point(), TransactionType.TRANSFER_IN, command.amount());
 
-            return savedUserPoint;
-        } finally {
-            lock.unlock();
+        UserPoint savedSender = userPointRepository.save(sender.changePoint(senderPoint));
+        UserPoint savedReceiver;
+        try {
+            savedReceiver = userPointRepository.save(receiver.changePoint(receiverPoint));
+        } catch (RuntimeException e) {
+            // 받는 유저 저장에 실패하면 보낸 유저의 잔고를 되돌린다.
+            userPointRepository.save(savedSender.changePoint(sender.point()));
+            throw e;
         }
+
+        // 히스토리 삽입 (보낸 유저 TRANSFER_OUT, 받은 유저 TRANSFER_IN 한 쌍)
+        pointHistoryWriter.append(PointHistory.makeEntity(command.senderId(), command.amount(), TransactionType.TRANSFER_OUT, savedSender.updateMillis()));
+        pointHistoryWriter.append(PointHistory.makeEntity(command.receiverId(), command.amount(), TransactionType.TRANSFER_IN, savedReceiver.updateMillis()));
+
+        return new PointTransferResult(savedSender, savedReceiver);
     }
 
     @Override
-    public UserPoint usePoint(UserPointCommand command) {
+    public List<PointBatchResult> executeBatch(PointBatchCommand command) {
+        List<PointBatchItem> items = command.items();
+        // 최대 건수 검사
+        if (items.size() > batchProperties.maxSize()) {
+            throw new BusinessException(PointErrorCode.INVALID_BATCH_SIZE);
+        }
+
+        // 유저별로 요청 순서를 유지하며 묶는다. (검증에 실패한 항목은 바로 실패 처리)
+        PointBatchResult[] results = new PointBatchResult[items.size()];
+        Map<Long, List<Integer>> indexesByUserId = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            PointBatchItem item = items.get(i);
+            try {
+                UserPointCommand userPointCommand = item.toUserPointCommand();
+                indexesByUserId.computeIfAbsent(userPointCommand.id(), id -> new ArrayList<>()).add(i);
+            } catch (BusinessException e) {
+                results[i] = PointBatchResult.failure(item, e);
+            }
+        }
+
+        // 서로 다른 유저는 병렬로, 같은 유저는 요청 순서대로 처리
+        // 작업은 concurrency 개만 넣고, 각 작업이 남은 유저를 하나씩 가져가 처리한다. (실행기를 요청 하나가 차지하지 않도록)
+        Queue<List<Integer>> pending = new ConcurrentLinkedQueue<>(indexesByUserId.values());
+        int workers = Math.min(batchProperties.concurrency(), indexesByUserId.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                List<Integer> indexes;
+                while ((indexes = pending.poll()) != null) {
+                    for (int index : indexes) {
+                        results[index] = executeBatchItem(items.get(index));
+                    }
+                }
+            }, pointBatchExecutor::execute));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return Arrays.asList(results);
+    }
+
+    private PointBatchResult executeBatchItem(PointBatchItem item) {
+        try {
+            UserPoint userPoint = updatePoint(item.toUserPointCommand(), item.type());
+            return PointBatchResult.success(item, userPoint);
+        } catch (BusinessException e) {
+            return PointBatchResult.failure(item, e);
+        } catch (RuntimeException e) {
+            log.error("포인트 일괄 처리 중 에러가 발생했습니다. {}", item, e);
+            return PointBatchResult.failure(item, PointErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private UserPoint updatePoint(UserPointCommand command, TransactionType type) {
+        try {
+            return applyPoint(command, type);
+        } finally {
+            // 변경 이후의 조회가 변경 이전에 시작된 조회 결과를 받지 않도록 한다.
+            pointReadCoalescer.invalidate(command.id());
+        }
+    }
+
+    private UserPoint applyPoint(UserPointCommand command, TransactionType type) {
+        // 락 없이 처리하고 충돌 시 재시도
+        if (concurrencyProperties.mode() == PointConcurrencyMode.OPTIMISTIC) {
+            return updatePointOptimistically(command, type);
+        }
+
+        // 유저가 속한 파티션의 전담 스레드가 처리 (같은 유저는 항상 같은 스레드가 처리하므로 락이 필요 없다)
+        if (concurrencyProperties.mode() == PointConcurrencyMode.PARTITIONED) {
+            return updatePointInPartition(command, type);
+        }
+
+        // 같은 유저의 요청을 모아서 한 번에 처리
+        if (concurrencyProperties.combining()) {
+            return pointCommandCombiner.submit(command, type);
+        }
+
         // 동일 ID에 대해 락을 걸어 동기화
-        ReentrantLock lock = locks.computeIfAbsent(command.id(), id -> new ReentrantLock(true));
-        lock.lock();
+        try (UserLock ignored = userLockManager.acquire(command.id())) {
+            return changePoint(command, type);
+        }
+    }
+
+    /**
+     * 잔고를 변경하고 히스토리를 남긴다.
+     * 같은 유저를 동시에 변경하지 않도록 호출하는 쪽에서 보장해야 한다. (유저 락 또는 파티션 전담 스레드)
+     */
+    private UserPoint changePoint(UserPointCommand command, TransactionType type) {
+        // 기존 UserPoint 호출
+        UserPoint userPoint = userPointRepository.findById(command.id())
+                .orElse(UserPoint.empty(command.id()));
+
+        // 충전/사용 후 포인트 (잔고 최대 금액, 잔고 부족 검사)
+        long changedPoint = PointBalancePolicy.apply(userPoint.point(), type, command.amount());
+
+        // userPoint 업데이트
+        UserPoint updateUserPoint = userPoint.changePoint(changedPoint);
+        UserPoint savedUserPoint = userPointRepository.save(updateUserPoint);
+
+        // 히스토리 삽입 (저장은 write-behind 워커가 처리하고, 락 안에서는 대기열에만 넣어 순서를 보장)
+        PointHistory pointHistory = PointHistory.makeEntity(command.id(), command.amount(), type, savedUserPoint.updateMillis());
+        pointHistoryWriter.append(pointHistory);
+
+        return savedUserPoint;
+    }
+
+    private UserPoint updatePointInPartition(UserPointCommand command, TransactionType type) {
+        return submitToPartition(command.id(), () -> changePoint(command, type));
+    }
+
+    /**
+     * 파티션 스레드가 꺼냈을 때 요청 마감 시각이 지났으면 처리하지 않고 USER_BUSY 로 실패한다.
+     */
+    private <T> T submitToPartition(long userId, Supplier<T> task) {
+        OptionalLong deadline = RequestDeadline.current();
+        return join(pointPartitionExecutor.submit(userId, () -> {
+            if (RequestDeadline.isExpired(deadline)) {
+                throw new BusinessException(PointErrorCode.USER_BUSY);
+            }
+            return task.get();
+        }));
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
         try {
+            return result.join();
+        } catch (CompletionException e) {
+            // 파티션에서 발생한 예외를 그대로 던진다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private UserPoint updatePointOptimistically(UserPointCommand command, TransactionType type) {
+        for (int attempt = 1; ; attempt++) {
             // 기존 UserPoint 호출
             UserPoint userPoint = userPointRepository.findById(command.id())
                     .orElse(UserPoint.empty(command.id()));
 
-            // 사용 후 포인트
-            Long chargedPoint = userPoint.point() - command.amount();
+            // 충전/사용 후 포인트 (잔고 최대 금액, 잔고 부족 검사)
+            long changedPoint = PointBalancePolicy.apply(userPoint.point(), type, command.amount());
 
-            // 잔고 최대 금액(10,000,000) 검사
-            if(chargedPoint < 0) {
-                throw new BusinessException(PointErrorCode.INSUFFICIENT_BALANCE);
+            // 조회 이후 다른 요청이 잔고를 바꾸지 않았을 때만 저장
+            // 히스토리는 저장에 성공한 직후, 같은 유저의 다음 변경보다 먼저 삽입한다. (이력 순서 = 잔고 변경 순서)
+            Optional<UserPoint> savedUserPoint = userPointRepository.compareAndSet(userPoint, changedPoint, saved ->
+                    pointHistoryWriter.append(PointHistory.makeEntity(command.id(), command.amount(), type, saved.updateMillis())));
+            if (savedUserPoint.isPresent()) {
+                return savedUserPoint.get();
             }
 
-            // userPoint 업데이트
-            UserPoint updateUserPoint = userPoint.changePoint(chargedPoint);
-            UserPoint savedUserPoint = userPointRepository.save(updateUserPoint);
-
-            // 히스토리 삽입
-            PointHistory pointHistory = PointHistory.makeEntity(command.id(), command.amount(), TransactionType.USE, savedUserPoint.updateMillis());
-            pointHistoryRepository.save(pointHistory);
-
-            return savedUserPoint;
-        } finally {
-            lock.unlock();
+            if (attempt >= concurrencyProperties.maxAttempts()) {
+                throw new BusinessException(PointErrorCode.CONCURRENT_UPDATE_CONFLICT);
+            }
+            backoff(attempt);
         }
     }
 
+    /**
+     * 재시도 전 대기 (시도할수록 대기 범위가 2배씩 늘어나며, 범위 안에서 무작위로 대기)
+     */
+    private void backoff(int attempt) {
+        long min = concurrencyProperties.backoffMinMicros();
+        long max = Math.min(concurrencyProperties.backoffMaxMicros(), min << Math.min(attempt - 1, 20));
+        long micros = ThreadLocalRandom.current().nextLong(min, Math.max(max, min) + 1);
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
 
 }
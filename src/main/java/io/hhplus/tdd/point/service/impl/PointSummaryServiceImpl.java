@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.command.PointSummaryQueryCommand;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.service.PointSummaryService;
+import io.hhplus.tdd.point.summary.PointHistoryAggregates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PointSummaryServiceImpl implements PointSummaryService {
+
+    private final PointHistoryAggregates pointHistoryAggregates;
+    private final PointHistoryWriter pointHistoryWriter;
+
+    @Override
+    public PointHistorySummary getSummary(PointSummaryQueryCommand command) {
+        // 아직 저장 대기 중인 히스토리가 있다면 저장(집계 반영)이 끝난 뒤 조회한다.
+        pointHistoryWriter.flush(command.id());
+        return pointHistoryAggregates.summarize(command.id(), command.granularity(), command.fromMillis(), command.toMillis());
+    }
+}
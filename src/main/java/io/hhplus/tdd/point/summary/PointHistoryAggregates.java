@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.config.HistorySummaryProperties;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointSummaryBucket;
+import io.hhplus.tdd.point.dto.PointTypeTotal;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.SummaryGranularity;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 유저별 포인트 내역 집계 (시간/일/월 구간별, 거래 종류별 금액 합계와 건수)
+ * - 히스토리가 저장될 때마다 해당 구간의 합계에 더하므로, 요약 조회는 히스토리 전체가 아니라 구간 수만큼만 읽는다.
+ * - 구간 합계는 long[] 하나에 거래 종류별 (금액, 건수) 순서로 담는다. (구간마다 객체를 여러 개 만들지 않는다)
+ * - 같은 유저의 히스토리가 여러 스레드에서 저장될 수 있으므로 유저별 집계 단위로 동기화한다.
+ */
+@Component
+public class PointHistoryAggregates {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final HistorySummaryProperties properties;
+    private final ConcurrentMap<Long, UserAggregates> aggregatesByUserId = new ConcurrentHashMap<>();
+
+    public PointHistoryAggregates(HistorySummaryProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 저장된 히스토리 한 건을 시간/일/월 구간 합계에 더한다.
+     */
+    public void record(PointHistory pointHistory) {
+        UserAggregates aggregates = aggregatesByUserId.computeIfAbsent(pointHistory.userId(), id -> new UserAggregates());
+        synchronized (aggregates) {
+            for (SummaryGranularity granularity : SummaryGranularity.values()) {
+                long start = granularity.bucketStart(pointHistory.updateMillis(), properties.zone());
+                NavigableMap<Long, long[]> buckets = aggregates.buckets(granularity);
+                long[] totals = buckets.computeIfAbsent(start, key -> new long[TYPES.length * 2]);
+                int index = pointHistory.type().ordinal() * 2;
+                totals[index] += pointHistory.amount();
+                totals[index + 1]++;
+                trim(buckets, retention(granularity));
+            }
+        }
+    }
+
+    /**
+     * fromMillis ~ toMillis 에 걸친 구간의 합계를 시작 시각 오름차순으로 반환한다. (각각 null 이면 제한 없음)
+     * 보관 구간 수를 넘어 제거된 오래된 시간/일 구간은 포함되지 않는다.
+     */
+    public PointHistorySummary summarize(long userId, SummaryGranularity granularity, Long fromMillis, Long toMillis) {
+        List<PointSummaryBucket> buckets = new ArrayList<>();
+        long[] sum = new long[TYPES.length * 2];
+        UserAggregates aggregates = aggregatesByUserId.get(userId);
+        if (aggregates != null) {
+            synchronized (aggregates) {
+                NavigableMap<Long, long[]> range = aggregates.buckets(granularity);
+                if (fromMillis != null) {
+                    range = range.tailMap(granularity.bucketStart(fromMillis, properties.zone()), true);
+                }
+                if (toMillis != null) {
+                    range = range.headMap(toMillis, true);
+                }
+                for (Map.Entry<Long, long[]> bucket : range.entrySet()) {
+                    long[] totals = bucket.getValue();
+                    for (int i = 0; i < totals.length; i++) {
+                        sum[i] += totals[i];
+                    }
+                    buckets.add(new PointSummaryBucket(bucket.getKey(), toTotals(totals)));
+                }
+            }
+        }
+        return new PointHistorySummary(userId, granularity, buckets, toTotals(sum));
+    }
+
+    private int retention(SummaryGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> properties.hourBuckets();
+            case DAY -> properties.dayBuckets();
+            case MONTH -> 0;
+        };
+    }
+
+    private static void trim(NavigableMap<Long, long[]> buckets, int retention) {
+        if (retention <= 0) {
+            return;
+        }
+        while (buckets.size() > retention) {
+            buckets.pollFirstEntry();
+        }
+    }
+
+    private static Map<TransactionType, PointTypeTotal> toTotals(long[] totals) {
+        Map<TransactionType, PointTypeTotal> byType = new EnumMap<>(TransactionType.class);
+        for (TransactionType type : TYPES) {
+            long count = totals[type.ordinal() * 2 + 1];
+            if (count > 0) {
+                byType.put(type, new PointTypeTotal(totals[type.ordinal() * 2], count));
+            }
+        }
+        return byType;
+    }
+
+    private static final class UserAggregates {
+
+        private final Map<SummaryGranularity, NavigableMap<Long, long[]>> bucketsByGranularity =
+                new EnumMap<>(SummaryGranularity.class);
+
+        private NavigableMap<Long, long[]> buckets(SummaryGranularity granularity) {
+            return bucketsByGranularity.computeIfAbsent(granularity, key -> new TreeMap<>());
+        }
+    }
+}
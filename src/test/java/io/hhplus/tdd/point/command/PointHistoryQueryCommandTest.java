@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class PointHistoryQueryCommandTest {
+
+    @Test
+    @DisplayName("PointHistoryQueryCommand 생성 실패 - cursor가 0보다 작을 때")
+    void shouldFailToTestPointHistoryQueryCommandWithNegativeCursor() {
+        // when
+        final BusinessException exception =
+                assertThrows(BusinessException.class, () -> {
+                    new PointHistoryQueryCommand(1L, -1L, null, null, null, null);
+                });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("PointHistoryQueryCommand 생성 실패 - limit가 1보다 작을 때")
+    void shouldFailToTestPointHistoryQueryCommandWhenLimitIsLessThanOne() {
+        // when
+        final BusinessException exception =
+                assertThrows(BusinessException.class, () -> {
+                    new PointHistoryQueryCommand(1L, null, 0, null, null, null);
+                });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("PointHistoryQueryCommand 생성 실패 - 조회 시작 시각이 종료 시각보다 늦을 때")
+    void shouldFailToTestPointHistoryQueryCommandWhenFromIsAfterTo() {
+        // when
+        final BusinessException exception =
+                assertThrows(BusinessException.class, () -> {
+                    new PointHistoryQueryCommand(1L, null, null, 2000L, 1000L, null);
+                });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_TIME_RANGE);
+    }
+
+    @Test
+    @DisplayName("PointHistoryQueryCommand 생성 성공 - 조건 없이 생성하면 처음부터 전체 조회")
+    void shouldSuccessToTestPointHistoryQueryCommandWithoutCondition() {
+        // when
+        final PointHistoryQueryCommand command = PointHistoryQueryCommand.all(1L);
+
+        // then
+        assertThat(command.cursorOrZero()).isZero();
+        assertThat(command.limit()).isNull();
+    }
+}
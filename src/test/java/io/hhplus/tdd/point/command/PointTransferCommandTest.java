@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.command;
+
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class PointTransferCommandTest {
+
+    @Test
+    @DisplayName("PointTransferCommand 생성 실패 - 받는 유저 id가 1보다 작을 때")
+    void shouldFailToCreatePointTransferCommandWhenReceiverIdIsLessThanOne() {
+        // given
+        final Long senderId = 1L;
+        final Long receiverId = 0L;
+        final Long amount = 100L;
+
+        // when
+        final BusinessException exception =
+                assertThrows(BusinessException.class, () -> {
+                    new PointTransferCommand(senderId, receiverId, amount);
+                });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_USER_ID);
+    }
+
+    @Test
+    @DisplayName("PointTransferCommand 생성 실패 - 자기 자신에게 전송할 때")
+    void shouldFailToCreatePointTransferCommandToSelf() {
+        // given
+        final Long senderId = 1L;
+        final Long receiverId = 1L;
+        final Long amount = 100L;
+
+        // when
+        final BusinessException exception =
+                assertThrows(BusinessException.class, () -> {
+                    new PointTransferCommand(senderId, receiverId, amount);
+                });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_TRANSFER_RECEIVER);
+    }
+}
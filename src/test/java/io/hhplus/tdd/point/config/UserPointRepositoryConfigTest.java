@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.enumtype.BalanceStoreType;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserPointRepositoryConfigTest {
+
+    private final UserPointRepositoryConfig config = new UserPointRepositoryConfig();
+
+    @Test
+    @DisplayName("잔고 저장소 설정 - PARTITIONED 모드에서 TABLE 저장소는 파티션 스레드를 테이블 I/O 로 막으므로 거부")
+    void shouldRejectTableStoreInPartitionedMode() {
+        // when
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> create(BalanceStoreType.TABLE, PointConcurrencyMode.PARTITIONED));
+
+        // then
+        assertThat(exception.getMessage()).contains("PARTITIONED");
+    }
+
+    @Test
+    @DisplayName("잔고 저장소 설정 - PARTITIONED 모드에서 PRIMITIVE 저장소는 그대로 사용")
+    void shouldAllowPrimitiveStoreInPartitionedMode() {
+        // when
+        final UserPointRepository repository = create(BalanceStoreType.PRIMITIVE, PointConcurrencyMode.PARTITIONED);
+
+        // then
+        assertThat(repository).isInstanceOf(PrimitiveUserPointRepository.class);
+    }
+
+    private UserPointRepository create(BalanceStoreType type, PointConcurrencyMode mode) {
+        return config.userPointRepository(
+                new BalanceStoreProperties(type, false, 4, 64),
+                new BalanceCacheProperties(true, 100),
+                new BalanceWalProperties("data/balance", WalSyncMode.INTERVAL, 100, 60000, 100000),
+                new PointConcurrencyProperties(mode, false, 64, 10, 100, 10000),
+                new UserPointTable());
+    }
+}
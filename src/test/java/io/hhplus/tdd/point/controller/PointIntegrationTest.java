@@ -1,7 +1,12 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.command.PointBatchCommand;
+import io.hhplus.tdd.point.command.PointBatchItem;
+import io.hhplus.tdd.point.command.PointHistoryQueryCommand;
 import io.hhplus.tdd.point.command.UserIdCommand;
 import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.enumtype.PointErrorCode;
@@ -15,15 +20,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -53,6 +61,27 @@ class PointIntegrationTest {
                 .contains(PointErrorCode.INVALID_USER_ID.getMsg());
     }
 
+    @Test
+    @DisplayName("포인트 조회 - 응답에 낙관적 동시성 제어용 version 을 포함하지 않음")
+    void shouldNotExposeVersion() throws Exception {
+        // given
+        final long id = 1L;
+        when(pointService.getPoint(new UserIdCommand(id)))
+                .thenReturn(new UserPoint(id, 1000, System.currentTimeMillis(), 7));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/point/{id}", id)
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("\"point\":1000")
+                .doesNotContain("version");
+    }
+
     @Test
     @DisplayName("포인트 충전 실패 - 최대 잔고 초과 시 400 반환")
     void shouldReturn400WhenMaxBalanceExceeded() throws Exception {
@@ -77,6 +106,106 @@ class PointIntegrationTest {
                 .contains(PointErrorCode.MAX_BALANCE_EXCEEDED.getMsg());
     }
 
+    @Test
+    @DisplayName("포인트 충전 - Idempotency-Key 헤더를 멱등성 키로 전달")
+    void shouldPassIdempotencyKeyHeader() throws Exception {
+        // given
+        final long id = 1L;
+        final long amount = 1000L;
+        final String idempotencyKey = "charge-1";
+
+        when(pointService.chargePoint(new UserPointCommand(id, amount, idempotencyKey)))
+                .thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.patch("/point/{id}/charge", id)
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType("application/json")
+                        .content(String.valueOf(amount))
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        verify(pointService).chargePoint(new UserPointCommand(id, amount, idempotencyKey));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 실패 - 너무 긴 Idempotency-Key 헤더로 요청 시 400 반환")
+    void shouldReturn400WhenIdempotencyKeyTooLong() throws Exception {
+        // given
+        final long id = 1L;
+        final String idempotencyKey = "k".repeat(UserPointCommand.MAX_IDEMPOTENCY_KEY_LENGTH + 1);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.patch("/point/{id}/use", id)
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType("application/json")
+                        .content("1000")
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains(PointErrorCode.INVALID_IDEMPOTENCY_KEY.getMsg());
+        verify(pointService, never()).usePoint(any(UserPointCommand.class));
+    }
+
+    @Test
+    @DisplayName("비동기 포인트 충전 성공 - 요청 스레드를 반환한 뒤 처리 결과 UserPoint와 200 반환")
+    void shouldReturn200WhenChargePointAsynchronously() throws Exception {
+        // given
+        final long id = 1L;
+        final long amount = 1000L;
+
+        when(pointService.chargePoint(new UserPointCommand(id, amount)))
+                .thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                MockMvcRequestBuilders.patch("/point/async/{id}/charge", id)
+                        .contentType("application/json")
+                        .content(String.valueOf(amount))
+        ).andReturn();
+        MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult)).andReturn();
+
+        // then
+        assertThat(asyncResult.getAsyncResult()).isInstanceOf(UserPoint.class);
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("\"id\":" + id)
+                .contains("\"point\":" + amount);
+    }
+
+    @Test
+    @DisplayName("비동기 포인트 사용 실패 - 처리 중 발생한 비즈니스 예외는 동기 API 와 같은 응답으로 반환")
+    void shouldReturn400WhenUsePointAsynchronouslyFails() throws Exception {
+        // given
+        final long id = 1L;
+        final long amount = 1000L;
+
+        doThrow(new BusinessException(PointErrorCode.INSUFFICIENT_BALANCE))
+                .when(pointService).usePoint(any(UserPointCommand.class));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                MockMvcRequestBuilders.patch("/point/async/{id}/use", id)
+                        .contentType("application/json")
+                        .content(String.valueOf(amount))
+        ).andReturn();
+        MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult)).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains(PointErrorCode.INSUFFICIENT_BALANCE.getMsg());
+    }
+
     @Test
     @DisplayName("포인트 충전 성공 - 정상적으로 충전 시 변경된 UserPoint와 200 반환")
     void shouldReturn200WhenChargePointSuccessfully() throws Exception {
@@ -145,7 +274,7 @@ class PointIntegrationTest {
                 PointHistory.makeEntity(id, amount2, type2, System.currentTimeMillis())
         );
 
-        when(pointService.getHistory(any(UserIdCommand.class))).thenReturn(mockHistoryList);
+        when(pointService.getHistory(PointHistoryQueryCommand.all(id))).thenReturn(new PointHistoryPage(mockHistoryList, null));
 
         // when
         MvcResult mvcResult = mockMvc.perform(
@@ -164,5 +293,143 @@ class PointIntegrationTest {
                 .contains("\"userId\":" + id);
     }
 
+    @Test
+    @DisplayName("포인트 일괄 처리 성공 - 항목별 결과와 200 반환")
+    void shouldReturn200WhenExecuteBatchSuccessfully() throws Exception {
+        // given
+        final PointBatchItem charge = new PointBatchItem(1L, 1000L, TransactionType.CHARGE);
+        final PointBatchItem use = new PointBatchItem(2L, 500L, TransactionType.USE);
+
+        when(pointService.executeBatch(new PointBatchCommand(List.of(charge, use))))
+                .thenReturn(List.of(
+                        PointBatchResult.success(charge, new UserPoint(1L, 1000L, System.currentTimeMillis())),
+                        PointBatchResult.failure(use, new BusinessException(PointErrorCode.INSUFFICIENT_BALANCE))
+                ));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/point/batch")
+                        .contentType("application/json")
+                        .content("""
+                                [{"userId":1,"amount":1000,"type":"CHARGE"},
+                                 {"userId":2,"amount":500,"type":"USE"}]
+                                """)
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("\"success\":true")
+                .contains("\"errorCode\":\"INSUFFICIENT_BALANCE\"");
+    }
+
+    @Test
+    @DisplayName("포인트 일괄 처리 실패 - 요청 항목이 비어 있으면 400 반환")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/point/batch")
+                        .contentType("application/json")
+                        .content("[]")
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains(PointErrorCode.INVALID_BATCH_SIZE.getMsg());
+    }
+
+    @Test
+    @DisplayName("포인트 내역 커서 조회 성공 - 다음 페이지가 있으면 X-Next-Cursor 헤더 반환")
+    void shouldReturnNextCursorHeaderWhenHistoryPageHasNext() throws Exception {
+        // given
+        final long id = 1L;
+        final PointHistoryQueryCommand command = new PointHistoryQueryCommand(id, 10L, 1, null, null, TransactionType.CHARGE);
+        final PointHistory history = new PointHistory(11L, id, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        when(pointService.getHistory(command)).thenReturn(new PointHistoryPage(List.of(history), 11L));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/point/{id}/histories", id)
+                        .param("cursor", "10")
+                        .param("limit", "1")
+                        .param("type", "CHARGE")
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(mvcResult.getResponse().getHeader(PointController.NEXT_CURSOR_HEADER))
+                .isEqualTo("11");
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("\"id\":11");
+    }
+
+    @Test
+    @DisplayName("포인트 내역 커서 조회 실패 - 조회 건수가 최대치를 넘으면 400 반환")
+    void shouldReturn400WhenHistoryLimitExceeded() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/point/{id}/histories", 1L)
+                        .param("limit", String.valueOf(PointHistoryQueryCommand.MAX_LIMIT + 1))
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains(PointErrorCode.INVALID_PAGE_SIZE.getMsg());
+    }
+
+    @Test
+    @DisplayName("포인트 내역 스트리밍 조회 성공 - NDJSON 으로 한 줄에 내역 하나씩 반환")
+    void shouldStreamHistoriesAsNdjson() throws Exception {
+        // given
+        final long id = 1L;
+        when(pointService.streamHistory(PointHistoryQueryCommand.all(id))).thenReturn(Stream.of(
+                new PointHistory(1L, id, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, id, 200L, TransactionType.USE, 2L)
+        ));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/point/{id}/histories", id)
+                        .accept(MediaType.APPLICATION_NDJSON)
+        ).andReturn();
+        MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult)).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(mvcResult.getResponse().getContentType())
+                .startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(mvcResult.getResponse().getContentAsString().split("\n"))
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).contains("\"amount\":1000"),
+                        line -> assertThat(line).contains("\"amount\":200")
+                );
+    }
+
+    @Test
+    @DisplayName("포인트 내역 요약 실패 - 조회 기간의 시작이 끝보다 늦으면 400 반환")
+    void shouldReturn400WhenSummaryTimeRangeIsInvalid() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/point/{id}/summary", 1L)
+                        .param("granularity", "DAY")
+                        .param("from", "2000")
+                        .param("to", "1000")
+        ).andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains(PointErrorCode.INVALID_TIME_RANGE.getMsg());
+    }
 
 }
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "point.rate-limit.user-permits-per-second=0.1",
+        "point.rate-limit.user-burst=2"
+})
+@AutoConfigureMockMvc
+class PointRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    @DisplayName("요청 수 제한 - 한 유저가 burst 를 넘으면 서비스 호출 없이 429 와 Retry-After 를 반환하고, 다른 유저는 처리됨")
+    void shouldReturn429WhenUserExceedsLimit() throws Exception {
+        // given
+        final long id = 1L;
+        final long otherId = 2L;
+        when(pointService.usePoint(any())).thenReturn(new UserPoint(id, 0L, System.currentTimeMillis()));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            use(id);
+        }
+        final MvcResult rejected = use(id);
+        final MvcResult other = use(otherId);
+
+        // then
+        assertThat(rejected.getResponse().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getResponse().getContentAsString()).contains(PointErrorCode.TOO_MANY_REQUESTS.getMsg());
+        assertThat(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(other.getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        verify(pointService, times(3)).usePoint(any());
+    }
+
+    private MvcResult use(long id) throws Exception {
+        return mockMvc.perform(
+                MockMvcRequestBuilders.patch("/point/{id}/use", id)
+                        .contentType("application/json")
+                        .content("100")
+        ).andReturn();
+    }
+}
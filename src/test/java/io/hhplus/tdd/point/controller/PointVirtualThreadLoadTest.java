@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 부하 테스트
+ * 요청마다 테이블 throttle 로 최대 200ms 동안 블로킹되므로, 플랫폼 스레드 200개로는 동시에 200건만 처리할 수 있다.
+ * - 모든 JRE 에서 수천 건의 동시 요청이 타임아웃 없이 성공하는지 확인한다. (Java 17 에서는 설정이 무시되어 플랫폼 스레드로 처리된다)
+ * - Java 21 이상에서는 요청이 실제로 가상 스레드에서 처리되는지도 확인한다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "point.balance.cache.enabled=false" // 모든 요청이 테이블까지 가도록 캐시를 끈다.
+        }
+)
+class PointVirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointVirtualThreadLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    @DisplayName("가상 스레드 - 동시에 수천 건의 요청이 들어와도 플랫폼 스레드 수에 막히지 않고 처리되는지 확인")
+    void shouldServeThousandsOfConcurrentRequests() {
+        // given
+        final int numberOfRequests = 2000;
+
+        // when
+        final long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 1; i <= numberOfRequests; i++) {
+            responses.add(httpClient.sendAsync(get("/point/" + i), HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        final long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        // 처리량은 장비 성능에 따라 다르므로 기록만 하고, 모든 요청이 타임아웃 없이 성공하는지만 검증한다.
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        log.info("{} - {}건 / {}ms", JRE.currentVersion(), numberOfRequests, elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 - Java 21 이상에서는 요청이 가상 스레드에서 처리되는지 확인")
+    void shouldHandleRequestsOnVirtualThreadsFromJava21() throws Exception {
+        // when
+        final String thread = httpClient.send(get("/test/thread"), HttpResponse.BodyHandlers.ofString()).body();
+
+        // then
+        final boolean virtualThreadsAvailable = JRE.currentVersion().compareTo(JRE.JAVA_21) >= 0;
+        assertThat(thread.startsWith("VirtualThread")).isEqualTo(virtualThreadsAvailable);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    /**
+     * 요청을 처리한 스레드를 반환하는 테스트용 API
+     */
+    @TestConfiguration
+    static class ThreadRouteConfig {
+
+        @Bean
+        RouterFunction<ServerResponse> threadRoute() {
+            return RouterFunctions.route()
+                    .GET("/test/thread", request -> ServerResponse.ok().body(Thread.currentThread().toString()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointBatchExecutorTest {
+
+    @Test
+    @DisplayName("일괄 처리 실행기 - applicationTaskExecutor 와 나누어 쓰지 않는 전용 스레드에서 실행")
+    void shouldRunOnDedicatedThreads() throws Exception {
+        // given
+        final PointBatchExecutor executor = new PointBatchExecutor(new PointBatchProperties(100, 2, 2), new MockEnvironment());
+
+        // when
+        final String thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor::execute)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(thread).startsWith("point-batch-");
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.config.AsyncPointProperties;
+import io.hhplus.tdd.point.config.UserLockProperties;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.UserLockType;
+import io.hhplus.tdd.point.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserSerialExecutorTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    private final UserSerialExecutor userSerialExecutor = new UserSerialExecutor(executorService, new AsyncPointProperties(4, 8));
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("유저별 실행기 - 같은 유저의 작업은 여러 스레드에서 넣어도 하나씩 넣은 순서대로 실행")
+    void shouldRunTasksOfSameUserSerially() throws Exception {
+        // given
+        final long userId = 1L;
+        final int numberOfThreads = 4;
+        final int tasksPerThread = 500;
+        final List<List<Integer>> executedByThread = new ArrayList<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        final ExecutorService submitters = Executors.newFixedThreadPool(numberOfThreads);
+        for (int t = 0; t < numberOfThreads; t++) {
+            executedByThread.add(new ArrayList<>());
+        }
+
+        // when
+        final List<CompletableFuture<Void>> submitted = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            final int thread = t;
+            submitted.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < tasksPerThread; i++) {
+                    final int task = i;
+                    CompletableFuture<Integer> result = userSerialExecutor.submit(userId, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        // 동기화하지 않은 목록에 기록해도 작업이 겹치지 않으므로 안전하다.
+                        executedByThread.get(thread).add(task);
+                        running.decrementAndGet();
+                        return task;
+                    });
+                    synchronized (results) {
+                        results.add(result);
+                    }
+                }
+            }, submitters));
+        }
+        CompletableFuture.allOf(submitted.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        submitters.shutdown();
+
+        // then
+        assertThat(maxRunning).hasValue(1);
+        assertThat(executedByThread).allSatisfy(executed -> assertThat(executed).hasSize(tasksPerThread).isSorted());
+        awaitIdle();
+        assertThat(userSerialExecutor.activeUsers()).isZero();
+        assertThat(userSerialExecutor.queuedTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("유저별 실행기 - 한 유저의 작업이 오래 걸려도 다른 유저의 작업은 먼저 실행")
+    void shouldNotBlockOtherUsers() throws Exception {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> slow = userSerialExecutor.submit(1L, () -> {
+            await(release);
+            return "slow";
+        });
+        final CompletableFuture<String> queuedBehindSlow = userSerialExecutor.submit(1L, () -> "queued");
+
+        // when
+        final String other = userSerialExecutor.submit(2L, () -> "other").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(other).isEqualTo("other");
+        assertThat(slow).isNotDone();
+        assertThat(queuedBehindSlow).isNotDone();
+        release.countDown();
+        assertThat(queuedBehindSlow.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("유저별 실행기 - 작업에서 발생한 예외는 결과로 전달되고 다음 작업은 계속 실행")
+    void shouldCompleteExceptionallyAndContinue() throws Exception {
+        // given
+        final CompletableFuture<String> failed = userSerialExecutor.submit(1L, () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // when
+        final String next = userSerialExecutor.submit(1L, () -> "next").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("유저별 실행기 - 유저의 작업 수가 maxQueueDepth 에 이르면 대기열에 넣지 않고 USER_BUSY 로 바로 실패")
+    void shouldRejectWhenUserQueueIsFull() throws Exception {
+        // given
+        final UserSerialExecutor bounded = new UserSerialExecutor(executorService, new AsyncPointProperties(4, 8), 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> running = bounded.submit(1L, () -> {
+            await(release);
+            return "running";
+        });
+        final CompletableFuture<String> queued = bounded.submit(1L, () -> "queued");
+
+        // when
+        final CompletableFuture<String> rejected = bounded.submit(1L, () -> "rejected");
+        final String other = bounded.submit(2L, () -> "other").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause()
+                .extracting("errorCode")
+                .isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(other).isEqualTo("other");
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(bounded.submit(1L, () -> "after").get(5, TimeUnit.SECONDS)).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("유저별 실행기 - 실행기를 주지 않으면 applicationTaskExecutor 와 나누어 쓰지 않는 전용 스레드에서 실행")
+    void shouldRunOnDedicatedThreads() throws Exception {
+        // given
+        final UserSerialExecutor dedicated = new UserSerialExecutor(new AsyncPointProperties(4, 2),
+                new UserLockProperties(UserLockType.REF_COUNTED, 1024, true, 10000, 64), new MockEnvironment());
+
+        // when
+        final String thread = dedicated.submit(1L, () -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(thread).startsWith("point-async-");
+        dedicated.shutdown();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (userSerialExecutor.activeUsers() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PointHistoryWriterTest {
+
+    private PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,
+                new HistoryWriteBehindProperties(true, 2, 4, 10000, 10000));
+        pointHistoryWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 대기열 크기를 넘게 넣어도 유저별 순서대로 모두 저장")
+    void shouldWriteHistoriesInOrderPerUser() {
+        // given
+        final long userId = 1L;
+        final int count = 10; // 대기열 크기(4)보다 많이 넣어 back-pressure 상황을 만든다.
+
+        // when
+        for (int i = 1; i <= count; i++) {
+            pointHistoryWriter.append(PointHistory.makeEntity(userId, i, TransactionType.CHARGE, System.currentTimeMillis()));
+        }
+        pointHistoryWriter.flush(userId);
+
+        // then
+        final List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+        assertThat(histories)
+                .extracting(PointHistory::amount)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 종료 시 대기 중인 히스토리를 모두 저장")
+    void shouldFlushPendingHistoriesOnShutdown() {
+        // given
+        final long userId = 2L;
+        pointHistoryWriter.append(PointHistory.makeEntity(userId, 100, TransactionType.CHARGE, System.currentTimeMillis()));
+        pointHistoryWriter.append(PointHistory.makeEntity(userId, 50, TransactionType.USE, System.currentTimeMillis()));
+
+        // when
+        pointHistoryWriter.shutdown();
+
+        // then
+        assertThat(pointHistoryRepository.findAllByUserId(userId)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 대기열이 가득 찬 채로 대기 시간이 지나면, 대기열에 남은 같은 유저의 히스토리를 먼저 저장한 뒤 바로 저장")
+    void shouldKeepOrderWhenQueueStaysFull() throws InterruptedException {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final PointHistoryRepository blockingRepository = new BlockingWorkerRepository(release);
+        final PointHistoryWriter writer = new PointHistoryWriter(blockingRepository,
+                new HistoryWriteBehindProperties(true, 1, 1, 50, 10000));
+        writer.start();
+        final long userId = 3L;
+        writer.append(PointHistory.makeEntity(userId, 1, TransactionType.CHARGE, System.currentTimeMillis())); // 워커가 잡고 멈춤
+        Thread.sleep(100);
+        writer.append(PointHistory.makeEntity(userId, 2, TransactionType.CHARGE, System.currentTimeMillis())); // 대기열을 채움
+
+        // when
+        final CompletableFuture<Void> overflow = CompletableFuture.runAsync(() -> writer.append(
+                PointHistory.makeEntity(userId, 3, TransactionType.CHARGE, System.currentTimeMillis())));
+        Thread.sleep(200);
+
+        // then
+        // 앞선 히스토리가 저장되기 전에는 바로 저장하지 않는다.
+        assertThat(overflow).isNotDone();
+        assertThat(blockingRepository.findAllByUserId(userId)).isEmpty();
+        release.countDown();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> overflow.join());
+        writer.flush(userId);
+        assertThat(blockingRepository.findAllByUserId(userId))
+                .extracting(PointHistory::amount)
+                .containsExactly(1L, 2L, 3L);
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 워커의 저장이 실패하면 다시 시도하여, 히스토리를 잃지 않고 순서대로 저장")
+    void shouldRetryFailedWritesInOrder() {
+        // given
+        final AtomicInteger failures = new AtomicInteger(2);
+        final PointHistoryRepository flakyRepository = new PointHistoryRepositoryImpl(new PointHistoryTable()) {
+            @Override
+            public PointHistory save(PointHistory pointHistory) {
+                if (pointHistory.amount() == 1 && failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("저장 실패");
+                }
+                return super.save(pointHistory);
+            }
+        };
+        final PointHistoryWriter writer = new PointHistoryWriter(flakyRepository,
+                new HistoryWriteBehindProperties(true, 1, 16, 1000, 10000));
+        writer.start();
+        final long userId = 7L;
+
+        // when
+        writer.append(PointHistory.makeEntity(userId, 1, TransactionType.CHARGE, System.currentTimeMillis()));
+        writer.append(PointHistory.makeEntity(userId, 2, TransactionType.CHARGE, System.currentTimeMillis()));
+        writer.flush(userId);
+
+        // then
+        assertThat(flakyRepository.findAllByUserId(userId))
+                .extracting(PointHistory::amount)
+                .containsExactly(1L, 2L);
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 유저별 flush 는 같은 파티션의 다른 유저 히스토리를 기다리지 않음")
+    void shouldNotWaitForOtherUsersOnFlush() {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final PointHistoryWriter writer = new PointHistoryWriter(new BlockingWorkerRepository(release),
+                new HistoryWriteBehindProperties(true, 1, 16, 1000, 10000));
+        writer.start();
+        writer.append(PointHistory.makeEntity(4L, 100, TransactionType.CHARGE, System.currentTimeMillis())); // 저장이 멈춘 유저
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> writer.flush(5L));
+        release.countDown();
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("히스토리 비동기 저장 - 종료 후 들어온 히스토리는 호출 스레드에서 바로 저장")
+    void shouldWriteOnCallerThreadAfterShutdown() {
+        // given
+        final long userId = 6L;
+        pointHistoryWriter.shutdown();
+
+        // when
+        pointHistoryWriter.append(PointHistory.makeEntity(userId, 100, TransactionType.CHARGE, System.currentTimeMillis()));
+
+        // then
+        assertThat(pointHistoryRepository.findAllByUserId(userId)).hasSize(1);
+    }
+
+    /**
+     * 워커 스레드의 저장만 release 될 때까지 멈추는 저장소
+     */
+    private static class BlockingWorkerRepository extends PointHistoryRepositoryImpl {
+
+        private final CountDownLatch release;
+
+        BlockingWorkerRepository(CountDownLatch release) {
+            super(new PointHistoryTable());
+            this.release = release;
+        }
+
+        @Override
+        public PointHistory save(PointHistory pointHistory) {
+            if (Thread.currentThread().getName().startsWith("point-history-writer")) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.save(pointHistory);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.IdempotencyProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointIdempotencyStoreTest {
+
+    private final PointIdempotencyStore store = new PointIdempotencyStore(new IdempotencyProperties(100, 60000));
+
+    @Test
+    @DisplayName("멱등성 키 - 같은 키로 다시 요청하면 처리하지 않고 처음 결과를 반환")
+    void shouldReturnStoredResultForSameKey() {
+        // given
+        final UserPointCommand command = new UserPointCommand(1L, 1000L, "key-1");
+        final AtomicInteger executions = new AtomicInteger();
+
+        // when
+        final UserPoint first = store.execute(command, TransactionType.CHARGE,
+                () -> new UserPoint(1L, 1000L * executions.incrementAndGet(), System.currentTimeMillis()));
+        final UserPoint retried = store.execute(command, TransactionType.CHARGE,
+                () -> new UserPoint(1L, 1000L * executions.incrementAndGet(), System.currentTimeMillis()));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retried).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 처음 요청이 처리 중일 때 같은 키로 동시에 요청해도 한 번만 처리")
+    void shouldExecuteOnceForConcurrentRetries() throws Exception {
+        // given
+        final UserPointCommand command = new UserPointCommand(1L, 1000L, "key-1");
+        final int numberOfThreads = 8;
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        // when
+        final List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> store.execute(command, TransactionType.CHARGE, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 1000L, System.currentTimeMillis());
+        }), executorService));
+        started.await();
+        for (int i = 1; i < numberOfThreads; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> store.execute(command, TransactionType.CHARGE, () -> {
+                executions.incrementAndGet();
+                return new UserPoint(1L, 2000L, System.currentTimeMillis());
+            }), executorService));
+        }
+        release.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(result.join().point()).isEqualTo(1000L));
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 같은 키를 다른 금액이나 거래 종류에 사용하면 예외 발생")
+    void shouldRejectReusedKey() {
+        // given
+        store.execute(new UserPointCommand(1L, 1000L, "key-1"), TransactionType.CHARGE,
+                () -> new UserPoint(1L, 1000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(new UserPointCommand(1L, 500L, "key-1"), TransactionType.CHARGE,
+                () -> new UserPoint(1L, 1500L, System.currentTimeMillis())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.IDEMPOTENCY_KEY_REUSED.getMsg());
+        assertThatThrownBy(() -> store.execute(new UserPointCommand(1L, 1000L, "key-1"), TransactionType.USE,
+                () -> new UserPoint(1L, 0L, System.currentTimeMillis())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.IDEMPOTENCY_KEY_REUSED.getMsg());
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 실패한 요청은 결과를 보관하지 않아 같은 키로 다시 처리")
+    void shouldRetryFailedRequest() {
+        // given
+        final UserPointCommand command = new UserPointCommand(1L, 1000L, "key-1");
+
+        // when
+        assertThatThrownBy(() -> store.execute(command, TransactionType.USE, () -> {
+            throw new BusinessException(PointErrorCode.INSUFFICIENT_BALANCE);
+        })).isInstanceOf(BusinessException.class);
+        final UserPoint retried = store.execute(command, TransactionType.USE,
+                () -> new UserPoint(1L, 0L, System.currentTimeMillis()));
+
+        // then
+        assertThat(retried.point()).isZero();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 유저가 다르면 같은 키라도 따로 처리")
+    void shouldScopeKeyByUser() {
+        // given
+        final AtomicInteger executions = new AtomicInteger();
+
+        // when
+        store.execute(new UserPointCommand(1L, 1000L, "key-1"), TransactionType.CHARGE,
+                () -> new UserPoint(1L, executions.incrementAndGet(), System.currentTimeMillis()));
+        store.execute(new UserPointCommand(2L, 1000L, "key-1"), TransactionType.CHARGE,
+                () -> new UserPoint(2L, executions.incrementAndGet(), System.currentTimeMillis()));
+
+        // then
+        assertThat(executions).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
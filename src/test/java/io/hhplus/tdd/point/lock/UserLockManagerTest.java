@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserLockManagerTest {
+
+    private static final int USERS = 4;
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    @DisplayName("참조 수 락 - 락이 계속 제거/생성되는 상황에서도 같은 유저의 갱신이 유실되지 않고, 끝나면 락이 모두 제거됨")
+    void shouldNotLoseUpdatesWhileLocksAreEvicted() throws InterruptedException {
+        // given
+        final RefCountedUserLockManager userLockManager = new RefCountedUserLockManager(false);
+
+        // when
+        final long[] counters = runConcurrentIncrements(userLockManager);
+
+        // then
+        for (long counter : counters) {
+            assertThat(counter).isEqualTo((long) THREADS * ITERATIONS / USERS);
+        }
+        assertThat(userLockManager.size()).isZero(); // 사용이 끝난 락은 남지 않는다.
+    }
+
+    @Test
+    @DisplayName("스트라이프 락 - 같은 유저의 갱신이 유실되지 않고, 락 수는 스트라이프 수로 고정됨")
+    void shouldNotLoseUpdatesWithStripedLocks() throws InterruptedException {
+        // given
+        final StripedUserLockManager userLockManager = new StripedUserLockManager(2, false);
+
+        // when
+        final long[] counters = runConcurrentIncrements(userLockManager);
+
+        // then
+        for (long counter : counters) {
+            assertThat(counter).isEqualTo((long) THREADS * ITERATIONS / USERS);
+        }
+        assertThat(userLockManager.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("락 지표 - 대기한 획득은 contended 로 집계되고, 대기/보유 시간과 활성 락 수가 기록됨")
+    void shouldRecordLockMetrics() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final InstrumentedUserLockManager userLockManager =
+                new InstrumentedUserLockManager(new RefCountedUserLockManager(true), meterRegistry);
+        final CountDownLatch waiting = new CountDownLatch(1);
+
+        // when
+        Thread waiter;
+        try (UserLock ignored = userLockManager.acquire(id)) {
+            assertThat(meterRegistry.get("point.lock.active").gauge().value()).isEqualTo(1);
+            waiter = new Thread(() -> {
+                waiting.countDown();
+                try (UserLock ignored2 = userLockManager.acquire(id)) {
+                    // 먼저 잡은 락이 풀릴 때까지 대기
+                }
+            });
+            waiter.start();
+            waiting.await();
+            Thread.sleep(50);
+        }
+        waiter.join(5000);
+
+        // then
+        assertThat(meterRegistry.get("point.lock.contended").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("point.lock.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("락 대기 제한 - 대기 중인 요청이 상한이면 바로 실패하고, 최대 대기 시간이 지나면 USER_BUSY 로 실패함")
+    void shouldShedWhenQueueIsFullOrWaitTimesOut() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final UserLockManager queueLimited = new BoundedUserLockManager(new RefCountedUserLockManager(true), 0, 1, meterRegistry);
+        final UserLockManager waitLimited = new BoundedUserLockManager(new RefCountedUserLockManager(true), 50, 0, meterRegistry);
+        final CountDownLatch held = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        for (UserLockManager userLockManager : List.of(queueLimited, waitLimited)) {
+            executorService.submit(() -> {
+                try (UserLock ignored = userLockManager.acquire(id)) {
+                    held.countDown();
+                    release.await();
+                }
+                return null;
+            });
+        }
+        held.await(5, TimeUnit.SECONDS);
+
+        // when
+        final long start = System.nanoTime();
+        final BusinessException queueFull = assertThrows(BusinessException.class, () -> queueLimited.acquire(id));
+        final long queueFullMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final BusinessException timeout = assertThrows(BusinessException.class, () -> waitLimited.acquire(id));
+        final long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - queueFullMillis;
+        release.countDown();
+        executorService.shutdown();
+
+        // then
+        assertThat(queueFull.getErrorCode()).isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(timeout.getErrorCode()).isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(queueFullMillis).isLessThan(50);
+        assertThat(timeoutMillis).isGreaterThanOrEqualTo(45);
+        assertThat(meterRegistry.get("point.lock.shed").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.lock.shed").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 대기 제한 - 요청 마감 시각이 이미 지났으면 락이 비어 있어도 기다리지 않고 USER_BUSY 로 실패함")
+    void shouldNotAcquireAfterRequestDeadline() {
+        // given
+        final UserLockManager userLockManager =
+                new BoundedUserLockManager(new RefCountedUserLockManager(true), 10000, 0, new SimpleMeterRegistry());
+        final OptionalLong expired = OptionalLong.of(System.nanoTime() - 1);
+        final OptionalLong later = OptionalLong.of(System.nanoTime() + TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        final BusinessException exception = assertThrows(BusinessException.class,
+                () -> RequestDeadline.callWith(expired, () -> userLockManager.acquire(1L)));
+        final UserLock acquired = RequestDeadline.callWith(later, () -> userLockManager.acquire(1L));
+        acquired.close();
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(RequestDeadline.current()).isEmpty();
+        assertThat(userLockManager.size()).isZero();
+    }
+
+    /**
+     * 여러 스레드가 적은 수의 유저에 대해 락을 잡고 동기화되지 않은 카운터를 증가시킨다.
+     * 락이 제거되는 순간 다른 스레드가 새 락을 만들어 동시에 들어오면 갱신이 유실된다.
+     */
+    private long[] runConcurrentIncrements(UserLockManager userLockManager) throws InterruptedException {
+        final long[] counters = new long[USERS];
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        int user = (offset + i) % USERS;
+                        try (UserLock ignored = userLockManager.acquire(user + 1)) {
+                            counters[user]++;
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+        return counters;
+    }
+}
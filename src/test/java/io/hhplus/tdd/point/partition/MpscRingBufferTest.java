@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("링 버퍼 - 가득 차면 offer 가 false 를 반환하고, 꺼낸 만큼 다시 넣을 수 있음")
+    void shouldRejectWhenFull() {
+        // given
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        final boolean overflow = buffer.offer(4);
+        final Integer first = buffer.poll();
+
+        // then
+        assertThat(overflow).isFalse();
+        assertThat(first).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(List.of(buffer.poll(), buffer.poll(), buffer.poll(), buffer.poll())).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 여러 스레드가 동시에 넣어도 유실/중복 없이 스레드별 순서대로 꺼냄")
+    void shouldKeepPerProducerOrderWithConcurrentProducers() throws Exception {
+        // given
+        final MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        final int producers = 4;
+        final int perProducer = 20000;
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final long producer = p;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        final long[] nextByProducer = new long[producers];
+        long received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+            long[] element = buffer.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            // then (생산자별로 넣은 순서대로 하나씩 꺼내야 한다)
+            assertThat(element[1]).isEqualTo(nextByProducer[(int) element[0]]);
+            nextByProducer[(int) element[0]]++;
+            received++;
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(received).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.partition;
+
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.deadline.RequestDeadline;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointPartitionExecutorTest {
+
+    private static final PointConcurrencyProperties PARTITIONED =
+            new PointConcurrencyProperties(PointConcurrencyMode.PARTITIONED, false, 64, 10, 100, 10000);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PointPartitionExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("파티션 실행기 - 링 버퍼가 offerTimeoutMillis 동안 가득 차 있으면 기다리지 않고 USER_BUSY 로 실패")
+    void shouldFailWhenRingBufferStaysFull() throws InterruptedException {
+        // given
+        executor = new PointPartitionExecutor(new PointPartitionProperties(1, 4, 10, 50), PARTITIONED);
+        executor.start();
+        fillRingBuffer();
+
+        // when
+        final long started = System.nanoTime();
+        final BusinessException exception = assertThrows(BusinessException.class, () -> executor.submit(1L, () -> true));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    @DisplayName("파티션 실행기 - 요청 마감 시각이 offerTimeoutMillis 보다 빠르면 마감 시각까지만 기다림")
+    void shouldFailAtRequestDeadlineWhenRingBufferIsFull() throws InterruptedException {
+        // given
+        executor = new PointPartitionExecutor(new PointPartitionProperties(1, 4, 10, 60_000), PARTITIONED);
+        executor.start();
+        fillRingBuffer();
+        final OptionalLong deadline = OptionalLong.of(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+
+        // when
+        final long started = System.nanoTime();
+        final BusinessException exception = assertThrows(BusinessException.class,
+                () -> RequestDeadline.callWith(deadline, () -> executor.submit(1L, () -> true)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.USER_BUSY);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    /**
+     * 파티션 스레드를 잡아 둔 채 링 버퍼를 채운다.
+     */
+    private void fillRingBuffer() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.submit(1L, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            executor.submit(1L, () -> true);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
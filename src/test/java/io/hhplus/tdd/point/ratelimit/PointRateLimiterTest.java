@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import io.hhplus.tdd.point.config.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("요청 수 제한 - 한 유저가 burst 를 넘으면 거절되고, 다른 유저와 시간이 지난 뒤의 요청은 허용됨")
+    void shouldLimitEachUserSeparately() {
+        // given
+        final PointRateLimiter limiter = new PointRateLimiter(
+                new RateLimitProperties(true, 10, 3, 0, 1, 100, 60000), now::get);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(1L)).isZero();
+        }
+        final long waitNanos = limiter.tryAcquire(1L);
+        final long otherUser = limiter.tryAcquire(2L);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        final long afterRefill = limiter.tryAcquire(1L);
+
+        // then
+        assertThat(waitNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(otherUser).isZero();
+        assertThat(afterRefill).isZero();
+        assertThat(limiter.tryAcquire(1L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 여러 스레드가 동시에 요청해도 전체 burst 만큼만 허용됨")
+    void shouldAdmitOnlyGlobalBurstConcurrently() throws InterruptedException {
+        // given
+        final int burst = 100;
+        final int numberOfThreads = 8;
+        final PointRateLimiter limiter = new PointRateLimiter(
+                new RateLimitProperties(true, 1000, 1000, 1, burst, 100, 60000), now::get);
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        final AtomicInteger admitted = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            final long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        if (limiter.tryAcquire(userId) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(admitted.get()).isEqualTo(burst);
+    }
+}
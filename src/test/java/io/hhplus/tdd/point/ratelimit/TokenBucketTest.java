@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("토큰 버킷 - 오래 쉬어도 burst 이상 쌓이지 않고, 초당 permits 만큼 다시 채워짐")
+    void shouldRefillUpToBurst() {
+        // given
+        long now = 0;
+        final TokenBucket bucket = new TokenBucket(2, 2, now);
+
+        // when
+        now += TimeUnit.SECONDS.toNanos(10);
+        final long first = bucket.tryAcquire(now);
+        final long second = bucket.tryAcquire(now);
+        final long third = bucket.tryAcquire(now);
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        final long afterHalfSecond = bucket.tryAcquire(now);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(afterHalfSecond).isZero();
+        assertThat(bucket.tryAcquire(now)).isPositive();
+    }
+}
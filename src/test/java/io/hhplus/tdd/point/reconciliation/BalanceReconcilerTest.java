@@ -0,0 +1,307 @@
+package io.hhplus.tdd.point.reconciliation;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.config.ReconciliationProperties;
+import io.hhplus.tdd.point.dto.BalanceDiscrepancy;
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.RefCountedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceReconcilerTest {
+
+    @TempDir
+    Path directory;
+
+    private UserPointRepository userPointRepository;
+    private MappedPointHistoryRepository pointHistoryRepository;
+    private UserLockManager userLockManager;
+    private BalanceReconciler balanceReconciler;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new PrimitiveUserPointRepository(new LongPointMap(4, 64, false));
+        pointHistoryRepository = new MappedPointHistoryRepository(directory, 4096, false);
+        userLockManager = new RefCountedUserLockManager(false);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,
+                new HistoryWriteBehindProperties(false, 1, 16, 100, 1000));
+        PointConcurrencyProperties concurrencyProperties = new PointConcurrencyProperties(PointConcurrencyMode.LOCK, false, 64, 10, 100, 10000);
+        balanceReconciler = new BalanceReconciler(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                userLockManager, new ReconciliationProperties(2, 1, 0, false, 1000, 1000, 5000), concurrencyProperties,
+                new PointPartitionExecutor(new PointPartitionProperties(0, 1024, 100, 1000), concurrencyProperties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceReconciler.shutdown();
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 히스토리 합계와 다른 잔고만 불일치로 보고하고, repair 가 아니면 잔고를 바꾸지 않음")
+    void shouldReportDiscrepancies() {
+        // given
+        charge(1L, 1000L);
+        use(1L, 300L);
+        userPointRepository.save(new UserPoint(1L, 700L, System.currentTimeMillis(), 2));
+        charge(2L, 500L);
+        userPointRepository.save(new UserPoint(2L, 900L, System.currentTimeMillis(), 1));
+
+        // when
+        final ReconciliationReport report = balanceReconciler.reconcile(false, false);
+
+        // then
+        assertThat(report.checkedUsers()).isEqualTo(2);
+        assertThat(report.scannedHistories()).isEqualTo(3);
+        assertThat(report.discrepancyCount()).isEqualTo(1);
+        assertThat(report.discrepancies()).containsExactly(new BalanceDiscrepancy(2L, 900L, 500L, false));
+        assertThat(userPointRepository.findById(2L).orElseThrow().point()).isEqualTo(900L);
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - repair 이면 불일치 잔고를 히스토리 기준으로 바로잡음")
+    void shouldRepairDiscrepancies() {
+        // given
+        charge(1L, 500L);
+        use(1L, 200L);
+        userPointRepository.save(new UserPoint(1L, 1000L, System.currentTimeMillis(), 2));
+
+        // when
+        final ReconciliationReport report = balanceReconciler.reconcile(false, true);
+
+        // then
+        assertThat(report.discrepancies()).containsExactly(new BalanceDiscrepancy(1L, 1000L, 300L, true));
+        assertThat(report.repairedUsers()).isEqualTo(1);
+        assertThat(userPointRepository.findById(1L).orElseThrow().point()).isEqualTo(300L);
+        assertThat(balanceReconciler.reconcile(true, false).discrepancyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 체크포인트 이후 히스토리만 다시 읽고, full 이면 전체를 다시 읽음")
+    void shouldScanOnlyNewHistoriesIncrementally() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            charge(userId, 100L);
+            charge(userId, 200L);
+            userPointRepository.save(new UserPoint(userId, 300L, System.currentTimeMillis(), 2));
+        }
+        balanceReconciler.reconcile(false, false);
+
+        charge(3L, 50L);
+        userPointRepository.save(new UserPoint(3L, 350L, System.currentTimeMillis(), 3));
+
+        // when
+        final ReconciliationReport incremental = balanceReconciler.reconcile(false, false);
+        final ReconciliationReport full = balanceReconciler.reconcile(true, false);
+
+        // then
+        assertThat(incremental.checkedUsers()).isEqualTo(1);
+        assertThat(incremental.scannedHistories()).isEqualTo(1);
+        assertThat(incremental.discrepancyCount()).isZero();
+        assertThat(full.checkedUsers()).isEqualTo(5);
+        assertThat(full.scannedHistories()).isEqualTo(11);
+        assertThat(full.discrepancyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 락을 잡고 처리 중인 유저는 기다리지 않고 다음 검사로 미룸")
+    void shouldSkipBusyUsers() {
+        // given
+        charge(1L, 100L);
+        userPointRepository.save(new UserPoint(1L, 100L, System.currentTimeMillis(), 1));
+        charge(2L, 100L);
+        userPointRepository.save(new UserPoint(2L, 100L, System.currentTimeMillis(), 1));
+
+        // when
+        final ReconciliationReport busy;
+        try (UserLock ignored = userLockManager.acquire(2L)) {
+            busy = balanceReconciler.reconcile(false, false);
+        }
+        final ReconciliationReport next = balanceReconciler.reconcile(false, false);
+
+        // then
+        assertThat(busy.checkedUsers()).isEqualTo(1);
+        assertThat(busy.skippedUsers()).isEqualTo(1);
+        assertThat(next.checkedUsers()).isEqualTo(1);
+        assertThat(next.skippedUsers()).isZero();
+        assertThat(next.discrepancyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 체크포인트는 최대 유저 수까지만 보관하고, 버려진 유저는 처음부터 다시 읽음")
+    void shouldBoundCheckpoints() {
+        // given
+        final PointConcurrencyProperties concurrencyProperties = new PointConcurrencyProperties(PointConcurrencyMode.LOCK, false, 64, 10, 100, 10000);
+        final BalanceReconciler bounded = new BalanceReconciler(userPointRepository, pointHistoryRepository,
+                new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(false, 1, 16, 100, 1000)),
+                userLockManager, new ReconciliationProperties(1, 1000, 0, false, 1000, 2, 5000), concurrencyProperties,
+                new PointPartitionExecutor(new PointPartitionProperties(0, 1024, 100, 1000), concurrencyProperties));
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bounded.bindTo(registry);
+        for (long userId = 1; userId <= 5; userId++) {
+            charge(userId, 100L);
+            userPointRepository.save(new UserPoint(userId, 100L, System.currentTimeMillis(), 1));
+        }
+
+        // when
+        bounded.reconcile(false, false);
+        final ReconciliationReport second = bounded.reconcile(false, false);
+
+        // then
+        assertThat(registry.get("point.reconciliation.checkpoints").gauge().value()).isEqualTo(2);
+        assertThat(second.scannedHistories()).isGreaterThanOrEqualTo(3); // 체크포인트가 버려진 유저는 다시 읽는다.
+        assertThat(second.discrepancyCount()).isZero();
+        bounded.shutdown();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - (PARTITIONED) 파티션 스레드가 제한 시간 안에 바로잡지 못하면 기다리지 않고 건너뜀")
+    void shouldSkipRepairWhenPartitionTimesOut() throws Exception {
+        // given
+        final PointConcurrencyProperties partitioned = new PointConcurrencyProperties(PointConcurrencyMode.PARTITIONED, false, 64, 10, 100, 10000);
+        final PointPartitionExecutor partitionExecutor = new PointPartitionExecutor(new PointPartitionProperties(1, 1024, 100, 1000), partitioned);
+        partitionExecutor.start();
+        final BalanceReconciler reconciler = new BalanceReconciler(userPointRepository, pointHistoryRepository,
+                new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(false, 1, 16, 100, 1000)),
+                userLockManager, new ReconciliationProperties(2, 1, 0, false, 1000, 1000, 100), partitioned, partitionExecutor);
+        charge(1L, 100L);
+        userPointRepository.save(new UserPoint(1L, 900L, System.currentTimeMillis(), 1));
+        final CountDownLatch release = new CountDownLatch(1);
+        partitionExecutor.submit(1L, () -> await(release)); // 파티션 스레드를 잡아 둔다.
+
+        // when
+        final ReconciliationReport report = reconciler.reconcile(false, true);
+
+        // then
+        assertThat(report.skippedUsers()).isEqualTo(1);
+        assertThat(report.repairedUsers()).isZero();
+        release.countDown();
+        reconciler.shutdown();
+        partitionExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 체크포인트 이후 id 가 더 작은 히스토리가 추가되어도 읽은 건수 이후부터 이어서 읽음")
+    void shouldResumeByPositionWhenIdsArriveOutOfOrder() {
+        // given
+        final List<PointHistory> histories = new CopyOnWriteArrayList<>();
+        final PointHistoryRepository outOfOrder = new PointHistoryRepository() {
+            @Override
+            public PointHistory save(PointHistory pointHistory) {
+                histories.add(pointHistory);
+                return pointHistory;
+            }
+
+            @Override
+            public List<PointHistory> findAllByUserId(Long id) {
+                return histories.stream().filter(pointHistory -> pointHistory.userId().equals(id)).toList();
+            }
+
+            @Override
+            public List<Long> findAllUserIds() {
+                return histories.stream().map(PointHistory::userId).distinct().toList();
+            }
+        };
+        final BalanceReconciler reconciler = reconciler(userPointRepository, outOfOrder, PointConcurrencyMode.LOCK,
+                new PointPartitionExecutor(new PointPartitionProperties(0, 1024, 100, 1000),
+                        new PointConcurrencyProperties(PointConcurrencyMode.LOCK, false, 64, 10, 100, 10000)));
+        outOfOrder.save(new PointHistory(5L, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+        userPointRepository.save(new UserPoint(1L, 100L, System.currentTimeMillis(), 1));
+        reconciler.reconcile(false, false);
+
+        outOfOrder.save(new PointHistory(3L, 1L, 50L, TransactionType.CHARGE, System.currentTimeMillis()));
+        userPointRepository.save(new UserPoint(1L, 150L, System.currentTimeMillis(), 2));
+
+        // when
+        final ReconciliationReport report = reconciler.reconcile(false, false);
+
+        // then
+        assertThat(report.scannedHistories()).isEqualTo(1);
+        assertThat(report.discrepancyCount()).isZero();
+        reconciler.shutdown();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - (PARTITIONED, 캐시를 끈 TABLE) 늦게 실행된 repair 는 그 사이 저장된 잔고를 덮어쓰지 않음")
+    void shouldNotOverwriteNewerBalanceWithLateRepairWhenCacheDisabled() throws Exception {
+        // given
+        final UserPointRepository table = new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(false, 16));
+        final PointPartitionExecutor partitionExecutor = new PointPartitionExecutor(new PointPartitionProperties(1, 1024, 100, 1000),
+                new PointConcurrencyProperties(PointConcurrencyMode.PARTITIONED, false, 64, 10, 100, 10000));
+        partitionExecutor.start();
+        final BalanceReconciler reconciler = reconciler(table, pointHistoryRepository, PointConcurrencyMode.PARTITIONED, partitionExecutor);
+        charge(1L, 100L);
+        table.save(new UserPoint(1L, 900L, System.currentTimeMillis(), 0));
+        final CountDownLatch release = new CountDownLatch(1);
+        partitionExecutor.submit(1L, () -> await(release)); // 파티션 스레드를 잡아 repair 가 늦게 실행되도록 한다.
+
+        // when
+        final ReconciliationReport report = reconciler.reconcile(false, true);
+        table.save(new UserPoint(1L, 700L, System.currentTimeMillis(), 0));
+        release.countDown();
+        final boolean drained = partitionExecutor.submit(1L, () -> true).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(report.repairedUsers()).isZero();
+        assertThat(drained).isTrue();
+        assertThat(table.findById(1L).orElseThrow().point()).isEqualTo(700L);
+        reconciler.shutdown();
+        partitionExecutor.shutdown();
+    }
+
+    private BalanceReconciler reconciler(UserPointRepository balances, PointHistoryRepository histories,
+                                         PointConcurrencyMode mode, PointPartitionExecutor partitionExecutor) {
+        final PointConcurrencyProperties concurrencyProperties = new PointConcurrencyProperties(mode, false, 64, 10, 100, 10000);
+        return new BalanceReconciler(balances, histories,
+                new PointHistoryWriter(histories, new HistoryWriteBehindProperties(false, 1, 16, 100, 1000)),
+                userLockManager, new ReconciliationProperties(2, 1, 0, false, 1000, 1000, 100), concurrencyProperties,
+                partitionExecutor);
+    }
+
+    private void charge(long userId, long amount) {
+        pointHistoryRepository.save(PointHistory.makeEntity(userId, amount, TransactionType.CHARGE, System.currentTimeMillis()));
+    }
+
+    private void use(long userId, long amount) {
+        pointHistoryRepository.save(PointHistory.makeEntity(userId, amount, TransactionType.USE, System.currentTimeMillis()));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
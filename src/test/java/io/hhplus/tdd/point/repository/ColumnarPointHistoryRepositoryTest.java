@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.impl.ColumnarPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("컬럼 저장소 - 청크를 넘어가며 저장하고, 유저별로 저장 순서대로 조회")
+    void shouldSaveAcrossChunksAndFindByUser() {
+        // given
+        final ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(8);
+
+        // when
+        for (int i = 0; i < 25; i++) {
+            repository.save(PointHistory.makeEntity(i % 2 == 0 ? 1L : 2L, i + 1, TransactionType.values()[i % 4], 1000L + i));
+        }
+
+        // then
+        assertThat(repository.size()).isEqualTo(25);
+        final List<PointHistory> histories = repository.findAllByUserId(1L);
+        assertThat(histories).hasSize(13);
+        assertThat(histories.get(0)).isEqualTo(new PointHistory(1L, 1L, 1L, TransactionType.CHARGE, 1000L));
+        assertThat(histories.get(12)).isEqualTo(new PointHistory(25L, 1L, 25L, TransactionType.CHARGE, 1024L));
+        assertThat(histories).extracting(PointHistory::id).isSorted();
+        try (Stream<PointHistory> stream = repository.streamByUserId(2L, 20L)) {
+            assertThat(stream.toList()).containsExactly(
+                    new PointHistory(22L, 2L, 22L, TransactionType.USE, 1021L),
+                    new PointHistory(24L, 2L, 24L, TransactionType.TRANSFER_IN, 1023L));
+        }
+        assertThat(repository.findAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컬럼 저장소 - 여러 스레드가 동시에 저장해도 id 가 빠짐없이 발급되고 유저별 조회 결과가 저장한 값과 같음")
+    void shouldSaveConcurrently() throws InterruptedException {
+        // given
+        final ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(64);
+        final int threads = 4;
+        final int perThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            final long userId = t + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        repository.save(PointHistory.makeEntity(userId, i + 1, TransactionType.CHARGE, i));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        assertThat(repository.size()).isEqualTo((long) threads * perThread);
+        for (long userId = 1; userId <= threads; userId++) {
+            final List<PointHistory> histories = repository.findAllByUserId(userId);
+            assertThat(histories).hasSize(perThread);
+            assertThat(histories).extracting(PointHistory::id).isSorted();
+            assertThat(histories).extracting(PointHistory::amount).isSorted();
+            assertThat(histories).allMatch(history -> history.amount() == history.updateMillis() + 1);
+        }
+    }
+}
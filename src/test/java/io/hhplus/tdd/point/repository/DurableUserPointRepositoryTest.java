@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.BalanceStoreProperties;
+import io.hhplus.tdd.point.config.BalanceWalProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.BalanceStoreType;
+import io.hhplus.tdd.point.enumtype.WalSyncMode;
+import io.hhplus.tdd.point.repository.impl.DurableUserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DurableUserPointRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private DurableUserPointRepository open() {
+        return new DurableUserPointRepository(
+                new BalanceStoreProperties(BalanceStoreType.DURABLE, false, 4, 16),
+                new BalanceWalProperties(directory.toString(), WalSyncMode.INTERVAL, 100, 60000, 100000));
+    }
+
+    @Test
+    @DisplayName("잔고 로그 저장소 - 정상 종료 후 재시작하면 스냅샷에서 잔고와 version 을 복구")
+    void shouldRecoverFromSnapshotAfterClose() {
+        // given
+        final DurableUserPointRepository repository = open();
+        for (long id = 1; id <= 100; id++) {
+            repository.save(new UserPoint(id, id * 10, 0, 1));
+        }
+        final UserPoint current = repository.findById(1L).orElseThrow();
+        repository.compareAndSet(current, 5000);
+        repository.close();
+
+        // when
+        final DurableUserPointRepository recovered = open();
+
+        // then
+        assertThat(recovered.findById(1L).orElseThrow())
+                .extracting(UserPoint::point, UserPoint::version)
+                .containsExactly(5000L, 2L);
+        assertThat(recovered.findById(100L).orElseThrow().point()).isEqualTo(1000L);
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("잔고 로그 저장소 - 비정상 종료 시 스냅샷 이후 로그를 재적용하여 최신 잔고 복구")
+    void shouldReplayLogAfterSnapshotOnCrash() {
+        // given
+        final DurableUserPointRepository repository = open();
+        repository.save(new UserPoint(1L, 100, 0, 1));
+        repository.save(new UserPoint(2L, 200, 0, 1));
+        repository.snapshot();
+        repository.save(new UserPoint(1L, 300, 0, 2));
+        repository.save(new UserPoint(3L, 400, 0, 1));
+        // close 하지 않고 종료된 상황
+
+        // when
+        final DurableUserPointRepository recovered = open();
+
+        // then
+        assertThat(recovered.findById(1L).orElseThrow().point()).isEqualTo(300L);
+        assertThat(recovered.findById(2L).orElseThrow().point()).isEqualTo(200L);
+        assertThat(recovered.findById(3L).orElseThrow().point()).isEqualTo(400L);
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("잔고 로그 저장소 - 기록 도중 끊긴 마지막 로그는 무시하고 이후 seq 부터 이어서 기록")
+    void shouldIgnoreTornLogRecord() throws IOException {
+        // given
+        final DurableUserPointRepository repository = open();
+        repository.save(new UserPoint(1L, 100, 0, 1));
+        repository.save(new UserPoint(1L, 200, 0, 2));
+        final Path lastSegment;
+        try (Stream<Path> files = Files.list(directory)) {
+            lastSegment = files.filter(file -> file.toString().endsWith(".wal")).sorted().reduce((a, b) -> b).orElseThrow();
+        }
+        Files.write(lastSegment, new byte[20], StandardOpenOption.APPEND);
+
+        // when
+        final DurableUserPointRepository recovered = open();
+        recovered.save(new UserPoint(1L, 300, 0, 3));
+        recovered.close();
+        final DurableUserPointRepository reopened = open();
+
+        // then
+        assertThat(reopened.findById(1L).orElseThrow())
+                .extracting(UserPoint::point, UserPoint::version)
+                .containsExactly(300L, 3L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("잔고 로그 저장소 - 로그 기록에 실패하면 잔고를 바꾸지 않음")
+    void shouldNotChangeBalanceWhenLogWriteFails() {
+        // given
+        final DurableUserPointRepository repository = open();
+        repository.save(new UserPoint(1L, 100, 0, 1));
+        final UserPoint current = repository.findById(1L).orElseThrow();
+        repository.close(); // 이후 로그 기록은 실패한다.
+
+        // when & then
+        assertThatThrownBy(() -> repository.save(new UserPoint(1L, 300, 0, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> repository.compareAndSet(current, 500))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repository.findById(1L).orElseThrow()).isEqualTo(current);
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.repository.support.ExpiringMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringMapTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("만료 맵 - ttl 이 지난 항목은 조회되지 않고 다시 저장할 수 있음")
+    void shouldExpireEntries() {
+        // given
+        final ExpiringMap<String, String> map = new ExpiringMap<>(10, 1000, now::get);
+        map.putIfAbsent("a", "first");
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        final String beforeExpiry = map.putIfAbsent("a", "second");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        final String afterExpiry = map.get("a");
+
+        // then
+        assertThat(beforeExpiry).isEqualTo("first");
+        assertThat(afterExpiry).isNull();
+        assertThat(map.putIfAbsent("a", "third")).isNull();
+        assertThat(map.get("a")).isEqualTo("third");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 맵 - 최대 크기를 넘으면 가장 먼저 저장한 항목부터 제거")
+    void shouldEvictEldestEntries() {
+        // given
+        final ExpiringMap<Integer, Integer> map = new ExpiringMap<>(3, 60000, now::get);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            map.putIfAbsent(i, i);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1)).isNull();
+        assertThat(map.get(2)).isNull();
+        assertThat(map.get(5)).isEqualTo(5);
+        assertThat(map.evictionCount()).isEqualTo(2);
+    }
+}
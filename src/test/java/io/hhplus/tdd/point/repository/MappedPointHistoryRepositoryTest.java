@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedPointHistoryRepositoryTest {
+
+    // 레코드 10개가 들어가는 세그먼트
+    private static final int SEGMENT_SIZE = 40 * 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("매핑 로그 저장소 - 세그먼트를 넘어가며 저장하고, 유저별로 저장 순서대로 조회")
+    void shouldSaveAcrossSegmentsAndFindByUser() {
+        // given
+        final MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory, SEGMENT_SIZE, false);
+
+        // when
+        for (int i = 0; i < 25; i++) {
+            repository.save(PointHistory.makeEntity(i % 2 == 0 ? 1L : 2L, i + 1, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 1000L + i));
+        }
+
+        // then
+        assertThat(repository.segmentCount()).isEqualTo(3);
+        final List<PointHistory> histories = repository.findAllByUserId(1L);
+        assertThat(histories).hasSize(13);
+        assertThat(histories.get(0)).isEqualTo(new PointHistory(1L, 1L, 1L, TransactionType.USE, 1000L));
+        assertThat(histories).extracting(PointHistory::id).isSorted();
+        try (Stream<PointHistory> stream = repository.streamByUserId(2L, 20L)) {
+            assertThat(stream.map(PointHistory::id).toList()).containsExactly(22L, 24L);
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 로그 저장소 - 재시작 시 저장된 히스토리와 id 순서를 복구")
+    void shouldRecoverHistoriesOnRestart() {
+        // given
+        final MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory, SEGMENT_SIZE, false);
+        for (int i = 0; i < 15; i++) {
+            repository.save(PointHistory.makeEntity(1L, 100, TransactionType.CHARGE, i));
+        }
+        repository.close();
+
+        // when
+        final MappedPointHistoryRepository recovered = new MappedPointHistoryRepository(directory, SEGMENT_SIZE, false);
+        final PointHistory saved = recovered.save(PointHistory.makeEntity(1L, 200, TransactionType.USE, 15));
+
+        // then
+        assertThat(saved.id()).isEqualTo(16L);
+        assertThat(recovered.findAllByUserId(1L))
+                .hasSize(16)
+                .extracting(PointHistory::id)
+                .containsExactlyElementsOf(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L));
+    }
+
+    @Test
+    @DisplayName("매핑 로그 저장소 - 기록 도중 끊긴 마지막 레코드는 복구하지 않음")
+    void shouldDiscardTornRecordOnRecovery() throws IOException {
+        // given
+        final MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory, SEGMENT_SIZE, false);
+        for (int i = 0; i < 3; i++) {
+            repository.save(PointHistory.makeEntity(1L, 100, TransactionType.CHARGE, i));
+        }
+        repository.close();
+        // 4번째 레코드의 앞부분(id, userId)만 기록된 상태를 만든다.
+        try (FileChannel channel = FileChannel.open(directory.resolve("history-00000000.log"), StandardOpenOption.WRITE)) {
+            final ByteBuffer partial = ByteBuffer.allocate(16).putLong(4L).putLong(1L).flip();
+            channel.write(partial, 40 * 3);
+        }
+
+        // when
+        final MappedPointHistoryRepository recovered = new MappedPointHistoryRepository(directory, SEGMENT_SIZE, false);
+
+        // then
+        assertThat(recovered.size()).isEqualTo(3);
+        assertThat(recovered.save(PointHistory.makeEntity(1L, 100, TransactionType.CHARGE, 3)).id()).isEqualTo(4L);
+        assertThat(recovered.findAllByUserId(1L)).hasSize(4);
+    }
+}
@@ -0,0 +1,173 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PointHistoryRepositoryTest {
+
+    private final PointHistoryRepository pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+
+    @Test
+    @DisplayName("유저 히스토리 조회 - 유저별 인덱스에서 해당 유저의 히스토리만 저장 순서대로 반환")
+    void shouldReturnOnlyUserHistoriesInSavedOrder() {
+        // given
+        final long userId = 1L;
+        final long otherUserId = 2L;
+        pointHistoryRepository.save(PointHistory.makeEntity(userId, 1000, TransactionType.CHARGE, System.currentTimeMillis()));
+        pointHistoryRepository.save(PointHistory.makeEntity(otherUserId, 500, TransactionType.CHARGE, System.currentTimeMillis()));
+        pointHistoryRepository.save(PointHistory.makeEntity(userId, 200, TransactionType.USE, System.currentTimeMillis()));
+
+        // when
+        final List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+
+        // then
+        assertThat(histories)
+                .extracting(PointHistory::amount)
+                .containsExactly(1000L, 200L);
+        assertThat(histories)
+                .allSatisfy(history -> {
+                    assertThat(history.id()).isNotNull();
+                    assertThat(history.userId()).isEqualTo(userId);
+                });
+    }
+
+    @Test
+    @DisplayName("유저 히스토리 조회 - 히스토리가 없는 유저는 빈 리스트 반환")
+    void shouldReturnEmptyListWhenUserHasNoHistory() {
+        // given
+        final long userId = 3L;
+
+        // when
+        final List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+
+        // then
+        assertThat(histories).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유저 히스토리 커서 조회 - 커서 이후 히스토리를 여러 구간에 걸쳐 저장 순서대로 반환")
+    void shouldStreamHistoriesAfterCursorAcrossChunks() {
+        // given
+        // 테이블 지연 없이 많은 히스토리를 저장하기 위해 테이블을 mock 으로 대체
+        final PointHistoryTable table = mock(PointHistoryTable.class);
+        final AtomicLong sequence = new AtomicLong(1);
+        when(table.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> new PointHistory(
+                sequence.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2), invocation.getArgument(3)));
+        final PointHistoryRepository repository = new PointHistoryRepositoryImpl(table);
+
+        final long userId = 1L;
+        final long otherUserId = 2L;
+        for (int i = 0; i < 600; i++) {
+            repository.save(PointHistory.makeEntity(i % 3 == 0 ? otherUserId : userId, 100, TransactionType.CHARGE, i));
+        }
+        final List<Long> userHistoryIds = repository.findAllByUserId(userId).stream().map(PointHistory::id).toList();
+        final long cursor = userHistoryIds.get(99);
+
+        // when
+        final List<Long> streamedIds;
+        try (Stream<PointHistory> histories = repository.streamByUserId(userId, cursor)) {
+            streamedIds = histories.map(PointHistory::id).toList();
+        }
+
+        // then
+        assertThat(streamedIds)
+                .containsExactlyElementsOf(userHistoryIds.subList(100, userHistoryIds.size()));
+        assertThat(streamedIds).isSorted();
+    }
+
+    @Test
+    @DisplayName("유저 히스토리 위치 조회 - 앞서 읽은 건수만큼 건너뛰고 여러 구간에 걸쳐 이후 히스토리를 반환")
+    void shouldStreamHistoriesFromOffsetAcrossChunks() {
+        // given
+        final PointHistoryTable table = mock(PointHistoryTable.class);
+        final AtomicLong sequence = new AtomicLong(1);
+        when(table.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> new PointHistory(
+                sequence.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2), invocation.getArgument(3)));
+        final PointHistoryRepository repository = new PointHistoryRepositoryImpl(table);
+
+        final long userId = 1L;
+        for (int i = 0; i < 600; i++) {
+            repository.save(PointHistory.makeEntity(i % 3 == 0 ? 2L : userId, 100, TransactionType.CHARGE, i));
+        }
+        final List<Long> userHistoryIds = repository.findAllByUserId(userId).stream().map(PointHistory::id).toList();
+
+        // when
+        final List<Long> streamedIds;
+        try (Stream<PointHistory> histories = repository.streamByUserIdFrom(userId, 100)) {
+            streamedIds = histories.map(PointHistory::id).toList();
+        }
+        final long past;
+        try (Stream<PointHistory> histories = repository.streamByUserIdFrom(userId, userHistoryIds.size() + 1)) {
+            past = histories.count();
+        }
+
+        // then
+        assertThat(streamedIds)
+                .containsExactlyElementsOf(userHistoryIds.subList(100, userHistoryIds.size()));
+        assertThat(past).isZero();
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 같은 유저의 히스토리를 동시에 저장해도 유저별 목록은 id 오름차순")
+    void shouldKeepUserHistoriesSortedByIdUnderConcurrentSaves() throws InterruptedException {
+        // given
+        // id 부여 직후 잠시 멈추어, 부여와 목록 추가 사이에 다른 저장이 끼어들 틈을 만든다.
+        final PointHistoryTable table = mock(PointHistoryTable.class);
+        final AtomicLong sequence = new AtomicLong(1);
+        when(table.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            PointHistory saved = new PointHistory(sequence.getAndIncrement(), invocation.getArgument(0),
+                    invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(100_000));
+            return saved;
+        });
+        final PointHistoryRepository repository = new PointHistoryRepositoryImpl(table);
+        final long userId = 1L;
+        final int numberOfThreads = 8;
+        final int savesPerThread = 100;
+
+        // when
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < savesPerThread; j++) {
+                        repository.save(PointHistory.makeEntity(userId, 100, TransactionType.CHARGE, j));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        assertThat(repository.findAllByUserId(userId))
+                .hasSize(numberOfThreads * savesPerThread)
+                .extracting(PointHistory::id)
+                .isSorted();
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveUserPointRepositoryTest {
+
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("primitive 잔고 저장소 - 크기 조정이 여러 번 일어나도 저장한 잔고를 모두 조회")
+    void shouldFindAllBalancesAfterResize(boolean offHeap) {
+        // given
+        final LongPointMap balances = new LongPointMap(4, 16, offHeap);
+        final UserPointRepository repository = new PrimitiveUserPointRepository(balances);
+        final int users = 100_000;
+
+        // when
+        for (long id = 1; id <= users; id++) {
+            repository.save(new UserPoint(id * 7919, id, 0, 1));
+        }
+
+        // then
+        assertThat(balances.size()).isEqualTo(users);
+        for (long id = 1; id <= users; id++) {
+            assertThat(repository.findById(id * 7919).orElseThrow().point()).isEqualTo(id);
+        }
+        assertThat(repository.findById(3L)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("primitive 잔고 저장소 - 조회 이후 version 이 바뀌었으면 compareAndSet 실패")
+    void shouldFailCompareAndSetWhenVersionChanged(boolean offHeap) {
+        // given
+        final UserPointRepository repository = new PrimitiveUserPointRepository(new LongPointMap(4, 16, offHeap));
+        final UserPoint empty = UserPoint.empty(1L);
+        final UserPoint first = repository.compareAndSet(empty, 1000).orElseThrow();
+
+        // when
+        final Optional<UserPoint> stale = repository.compareAndSet(empty, 500);
+        final Optional<UserPoint> latest = repository.compareAndSet(first, 700);
+
+        // then
+        assertThat(stale).isEmpty();
+        assertThat(latest).isPresent();
+        assertThat(repository.findById(1L).orElseThrow())
+                .extracting(UserPoint::point, UserPoint::version)
+                .containsExactly(700L, 2L);
+    }
+
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("primitive 잔고 저장소 - 동시에 compareAndSet 을 재시도하면 유실 없이 모두 반영")
+    void shouldApplyAllConcurrentCompareAndSets(boolean offHeap) throws InterruptedException {
+        // given
+        final UserPointRepository repository = new PrimitiveUserPointRepository(new LongPointMap(1, 16, offHeap));
+        final int threads = 8;
+        final int increments = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < increments; i++) {
+                        while (true) {
+                            UserPoint current = repository.findById(1L).orElse(UserPoint.empty(1L));
+                            if (repository.compareAndSet(current, current.point() + 1).isPresent()) {
+                                break;
+                            }
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(repository.findById(1L).orElseThrow())
+                .extracting(UserPoint::point, UserPoint::version)
+                .containsExactly((long) threads * increments, (long) threads * increments);
+    }
+}
@@ -0,0 +1,220 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.support.LruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPointRepositoryTest {
+
+    @Test
+    @DisplayName("잔고 캐시 - 저장한 잔고는 테이블을 거치지 않고 캐시에서 조회")
+    void shouldReadSavedPointFromCache() {
+        // given
+        final long id = 1L;
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 10));
+        userPointRepository.save(new UserPoint(id, 1000, System.currentTimeMillis()));
+
+        // when
+        final UserPoint userPoint = userPointRepository.findById(id).orElseThrow();
+
+        // then
+        final LruCache<Long, UserPoint> cache = userPointRepository.cache().orElseThrow();
+        assertThat(userPoint.point()).isEqualTo(1000);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("잔고 캐시 - 최대 크기를 넘으면 가장 오래 조회되지 않은 유저부터 제거")
+    void shouldEvictLeastRecentlyUsedUser() {
+        // given
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 2));
+        userPointRepository.save(new UserPoint(1L, 100, System.currentTimeMillis()));
+        userPointRepository.save(new UserPoint(2L, 200, System.currentTimeMillis()));
+        userPointRepository.findById(1L); // 1번 유저를 최근 조회로 갱신
+
+        // when
+        userPointRepository.save(new UserPoint(3L, 300, System.currentTimeMillis()));
+
+        // then
+        final LruCache<Long, UserPoint> cache = userPointRepository.cache().orElseThrow();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get(2L)).isNull(); // 2번 유저가 제거됨
+        assertThat(cache.get(1L)).isNotNull();
+        // 제거된 유저도 테이블에서 다시 조회된다.
+        assertThat(userPointRepository.findById(2L).orElseThrow().point()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("잔고 캐시 - 비활성화 시 캐시를 사용하지 않음")
+    void shouldNotUseCacheWhenDisabled() {
+        // given
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(false, 10));
+
+        // when
+        userPointRepository.save(new UserPoint(1L, 100, System.currentTimeMillis()));
+
+        // then
+        assertThat(userPointRepository.cache()).isEmpty();
+        assertThat(userPointRepository.findById(1L).orElseThrow().point()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("compareAndSet - 캐시를 꺼도 version 을 따로 보관하여, 조회 이후 변경된 잔고는 덮어쓰지 않음")
+    void shouldTrackVersionsWhenCacheDisabled() {
+        // given
+        final long id = 1L;
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(false, 10));
+        final UserPoint read = userPointRepository.findById(id).orElseThrow();
+        final UserPoint saved = userPointRepository.save(new UserPoint(id, 1000, System.currentTimeMillis()));
+
+        // when
+        final Optional<UserPoint> result = userPointRepository.compareAndSet(read, 500);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(saved.version()).isEqualTo(read.version() + 1);
+        final UserPoint reread = userPointRepository.findById(id).orElseThrow();
+        assertThat(reread).isEqualTo(saved);
+        assertThat(userPointRepository.compareAndSet(reread, 700))
+                .get()
+                .extracting(UserPoint::point, UserPoint::version)
+                .containsExactly(700L, saved.version() + 1);
+    }
+
+    @Test
+    @DisplayName("compareAndSet - 조회 이후 다른 요청이 먼저 변경했다면 저장하지 않음")
+    void shouldRejectCompareAndSetWithStaleVersion() {
+        // given
+        final long id = 1L;
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 10));
+        final UserPoint read = userPointRepository.findById(id).orElseThrow();
+        userPointRepository.compareAndSet(read, 1000); // 다른 요청이 먼저 변경
+
+        // when
+        final Optional<UserPoint> result = userPointRepository.compareAndSet(read, 500);
+
+        // then
+        assertThat(result).isEmpty();
+        final UserPoint userPoint = userPointRepository.findById(id).orElseThrow();
+        assertThat(userPoint.point()).isEqualTo(1000);
+        assertThat(userPoint.version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("compareAndSet - 캐시에서 제거된 뒤 다시 적재되어도 제거 전에 읽은 version 으로는 저장하지 않음")
+    void shouldRejectCompareAndSetWithVersionReadBeforeEviction() {
+        // given
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 1));
+        final UserPoint read = userPointRepository.findById(1L).orElseThrow();
+        userPointRepository.compareAndSet(read, 1000); // 다른 요청이 먼저 변경
+        userPointRepository.findById(2L); // 1번 유저가 캐시에서 제거됨
+        final UserPoint reloaded = userPointRepository.findById(1L).orElseThrow();
+
+        // when
+        final Optional<UserPoint> result = userPointRepository.compareAndSet(read, 500);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(reloaded.version()).isGreaterThan(read.version() + 1);
+        assertThat(userPointRepository.findById(1L).orElseThrow().point()).isEqualTo(1000);
+        assertThat(userPointRepository.compareAndSet(reloaded, 700)).isPresent();
+    }
+
+    @Test
+    @DisplayName("compareAndSet - save 로 변경된 잔고는 그 전에 읽은 version 으로 덮어쓰지 않음")
+    void shouldRejectCompareAndSetAfterSave() {
+        // given
+        final long id = 1L;
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 10));
+        final UserPoint read = userPointRepository.findById(id).orElseThrow();
+        final UserPoint saved = userPointRepository.save(new UserPoint(id, 1000, System.currentTimeMillis()));
+
+        // when
+        final Optional<UserPoint> result = userPointRepository.compareAndSet(read, 500);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(saved.version()).isEqualTo(read.version() + 1);
+        assertThat(userPointRepository.findById(id).orElseThrow()).isEqualTo(saved);
+    }
+
+    @Test
+    @DisplayName("잔고 캐시 - 캐시 미스로 테이블을 읽는 도중 저장된 잔고를 예전 잔고로 덮어써 캐시에 남기지 않음")
+    void shouldNotCacheStaleBalanceLoadedDuringSave() throws Exception {
+        // given
+        final long id = 1L;
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        final UserPointTable table = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long userId) {
+                UserPoint userPoint = super.selectById(userId);
+                loading.countDown();
+                await(resume);
+                return userPoint;
+            }
+        };
+        final UserPointRepositoryImpl userPointRepository =
+                new UserPointRepositoryImpl(table, new BalanceCacheProperties(true, 10));
+
+        // when : 조회가 예전 잔고(0)를 읽은 채 멈춘 사이 저장을 시도
+        final CompletableFuture<Optional<UserPoint>> read = CompletableFuture.supplyAsync(() -> userPointRepository.findById(id));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<UserPoint> saved = CompletableFuture.supplyAsync(
+                () -> userPointRepository.save(new UserPoint(id, 500, System.currentTimeMillis())));
+        TimeUnit.MILLISECONDS.sleep(100);
+        final boolean savedWhileLoading = saved.isDone();
+        resume.countDown();
+        read.get(5, TimeUnit.SECONDS);
+        saved.get(5, TimeUnit.SECONDS);
+
+        // then : 저장은 적재가 끝날 때까지 기다리고, 캐시에는 저장한 잔고가 남는다.
+        assertThat(savedWhileLoading).isFalse();
+        assertThat(userPointRepository.findById(id).orElseThrow().point()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("잔고 캐시 - 큰 캐시는 세그먼트별 락으로 나누고, 전체 크기는 최대 크기를 넘지 않음")
+    void shouldSplitLargeCacheIntoSegmentsWithinMaxSize() {
+        // given
+        final LruCache<Long, Long> cache = new LruCache<>(100000);
+
+        // when
+        IntStream.rangeClosed(1, 200000).forEach(i -> cache.put((long) i, (long) i));
+
+        // then
+        assertThat(cache.segmentCount()).isGreaterThan(1);
+        assertThat(cache.size()).isEqualTo(100000);
+        assertThat(cache.evictionCount()).isEqualTo(100000);
+        assertThat(cache.get(200000L)).isEqualTo(200000L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.command.PointBatchCommand;
+import io.hhplus.tdd.point.command.PointBatchItem;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.executor.PointBatchExecutor;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PointBatchServiceTest {
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointServiceImpl pointService;
+    private final AtomicInteger submittedTasks = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 100));
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(true, 2, 1000, 1000, 10000));
+        pointHistoryWriter.start();
+
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(PointConcurrencyMode.LOCK, false, 64, 10, 100, 10000);
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .batch(new PointBatchProperties(5, 2, 2))
+                .batchExecutor(new PointBatchExecutor(new SimpleAsyncTaskExecutor() {
+                    @Override
+                    public void execute(Runnable task) {
+                        submittedTasks.incrementAndGet();
+                        super.execute(task);
+                    }
+                }))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 같은 유저는 요청 순서대로 처리되고, 항목별 결과를 요청 순서대로 반환")
+    void shouldExecuteBatchPreservingPerUserOrder() {
+        // given
+        final List<PointBatchItem> items = List.of(
+                new PointBatchItem(1L, 1000L, TransactionType.CHARGE),
+                new PointBatchItem(2L, 500L, TransactionType.CHARGE),
+                new PointBatchItem(1L, 700L, TransactionType.USE),    // 1000 충전 후이므로 성공
+                new PointBatchItem(1L, 700L, TransactionType.USE),    // 잔고 300 이므로 실패
+                new PointBatchItem(3L, 0L, TransactionType.CHARGE)    // 금액 검증 실패
+        );
+
+        // when
+        final List<PointBatchResult> results = pointService.executeBatch(new PointBatchCommand(items));
+
+        // then
+        assertThat(results).extracting(PointBatchResult::success)
+                .containsExactly(true, true, true, false, false);
+        assertThat(results.get(2).userPoint().point()).isEqualTo(300);
+        assertThat(results.get(3).errorCode()).isEqualTo(PointErrorCode.INSUFFICIENT_BALANCE.name());
+        assertThat(results.get(4).errorCode()).isEqualTo(PointErrorCode.INVALID_AMOUNT.name());
+        assertThat(userPointRepository.findById(1L).orElseThrow().point()).isEqualTo(300);
+        assertThat(userPointRepository.findById(2L).orElseThrow().point()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 거래 종류가 없으면 해당 항목만 실패")
+    void shouldFailItemWithoutTransactionType() {
+        // given
+        final List<PointBatchItem> items = List.of(
+                new PointBatchItem(4L, 100L, null),
+                new PointBatchItem(4L, 100L, TransactionType.CHARGE)
+        );
+
+        // when
+        final List<PointBatchResult> results = pointService.executeBatch(new PointBatchCommand(items));
+
+        // then
+        assertThat(results.get(0).errorCode()).isEqualTo(PointErrorCode.INVALID_TRANSACTION_TYPE.name());
+        assertThat(results.get(1).success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 최대 건수를 넘으면 전체 실패")
+    void shouldFailWhenBatchSizeExceeded() {
+        // given
+        final List<PointBatchItem> items = Collections.nCopies(6, new PointBatchItem(5L, 100L, TransactionType.CHARGE));
+
+        // when
+        final BusinessException exception = assertThrows(BusinessException.class, () -> {
+            pointService.executeBatch(new PointBatchCommand(items));
+        });
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.INVALID_BATCH_SIZE);
+        assertThat(userPointRepository.findById(5L).orElseThrow().point()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 유저 수와 관계없이 실행기에는 concurrency 개의 작업만 넣음")
+    void shouldLimitSubmittedTasksToConcurrency() {
+        // given
+        final List<PointBatchItem> items = LongStream.rangeClosed(11, 15)
+                .mapToObj(id -> new PointBatchItem(id, 100L, TransactionType.CHARGE))
+                .toList();
+
+        // when
+        final List<PointBatchResult> results = pointService.executeBatch(new PointBatchCommand(items));
+
+        // then
+        assertThat(submittedTasks.get()).isEqualTo(2);
+        assertThat(results).allSatisfy(result -> assertThat(result.success()).isTrue());
+        assertThat(userPointRepository.findById(15L).orElseThrow().point()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 예상하지 못한 에러로 실패한 항목도 PointErrorCode 이름으로 errorCode 를 채움")
+    void shouldReportUnexpectedErrorAsErrorCodeName() {
+        // given
+        final UserPointRepository failing = mock(UserPointRepository.class);
+        when(failing.findById(anyLong())).thenThrow(new IllegalStateException("table unavailable"));
+        final PointServiceImpl failingService = PointServiceFixture.of(failing, mock(PointHistoryRepository.class)).build();
+
+        // when
+        final List<PointBatchResult> results = failingService.executeBatch(new PointBatchCommand(
+                List.of(new PointBatchItem(21L, 100L, TransactionType.CHARGE))));
+
+        // then
+        assertThat(results.get(0).success()).isFalse();
+        assertThat(results.get(0).errorCode()).isEqualTo(PointErrorCode.INTERNAL_ERROR.name());
+        assertThat(results.get(0).message()).isEqualTo(PointErrorCode.INTERNAL_ERROR.getMsg());
+    }
+}
@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointCombiningServiceTest {
+
+    private final AtomicInteger saveCount = new AtomicInteger();
+    private final AtomicBoolean failFind = new AtomicBoolean();
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointServiceImpl pointService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointRepository delegate = new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(false, 0));
+        // 잔고 저장 횟수를 세고, 잔고 조회를 실패시킬 수 있는 repository
+        userPointRepository = new UserPointRepository() {
+            @Override
+            public UserPoint save(UserPoint userPoint) {
+                saveCount.incrementAndGet();
+                return delegate.save(userPoint);
+            }
+
+            @Override
+            public Optional<UserPoint> findById(Long id) {
+                if (failFind.get()) {
+                    throw new IllegalStateException("잔고 조회 실패");
+                }
+                return delegate.findById(id);
+            }
+
+            @Override
+            public Optional<UserPoint> compareAndSet(UserPoint current, long point, Consumer<UserPoint> onSwapped) {
+                return delegate.compareAndSet(current, point, onSwapped);
+            }
+        };
+        pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(true, 2, 1000, 1000, 10000));
+        pointHistoryWriter.start();
+
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(PointConcurrencyMode.LOCK, true, 64, 10, 100, 10000);
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("group-commit - 같은 유저의 동시 충전은 모아서 저장되고 합계가 정확한지 확인")
+    void shouldCombineConcurrentChargesForSameUser() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final long chargeAmount = 100L;
+        final int numberOfThreads = 30;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(new UserPointCommand(id, chargeAmount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(userPointRepository.findById(id).orElseThrow().point())
+                .isEqualTo(chargeAmount * numberOfThreads);
+        // 잔고 저장은 요청 수보다 적게 일어나야 한다.
+        assertThat(saveCount.get()).isLessThan(numberOfThreads);
+        // 히스토리는 요청마다 남아야 한다.
+        assertThat(pointService.getHistory(new UserIdCommand(id))).hasSize(numberOfThreads);
+    }
+
+    @Test
+    @DisplayName("group-commit - 처리 중 잔고 조회에 실패한 요청은 대기열에서 빠져, 이후 다른 요청과 함께 반영되지 않음")
+    void shouldNotApplyFailedRequestLater() {
+        // given
+        final long id = 3L;
+        failFind.set(true);
+        assertThatThrownBy(() -> pointService.chargePoint(new UserPointCommand(id, 100L)))
+                .isInstanceOf(IllegalStateException.class);
+        failFind.set(false);
+
+        // when
+        pointService.chargePoint(new UserPointCommand(id, 200L));
+
+        // then
+        assertThat(userPointRepository.findById(id).orElseThrow().point()).isEqualTo(200L);
+        assertThat(pointService.getHistory(new UserIdCommand(id))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("group-commit - 모아서 처리하더라도 잔고 부족 요청은 각자 실패")
+    void shouldFailOnlyInsufficientRequestsInBatch() throws InterruptedException {
+        // given
+        final long id = 2L;
+        final long useAmount = 100L;
+        final int numberOfThreads = 10;
+        pointService.chargePoint(new UserPointCommand(id, 500L)); // 5건만 사용 가능
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.usePoint(new UserPointCommand(id, useAmount));
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == PointErrorCode.INSUFFICIENT_BALANCE) {
+                        insufficientCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(insufficientCount.get()).isEqualTo(5);
+        assertThat(userPointRepository.findById(id).orElseThrow().point()).isZero();
+    }
+}
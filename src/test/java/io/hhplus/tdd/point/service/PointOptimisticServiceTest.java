@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.BalanceCacheProperties;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointOptimisticServiceTest {
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointServiceImpl pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), new BalanceCacheProperties(true, 100));
+        pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(true, 2, 1000, 1000, 10000));
+        pointHistoryWriter.start();
+
+        // 충돌이 많이 나도 실패하지 않도록 시도 횟수를 넉넉히 준다.
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(PointConcurrencyMode.OPTIMISTIC, false, 64, 100, 100, 10000);
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("낙관적 동시성 - 락 없이 동시에 충전해도 충돌 시 재시도하여 합계가 정확한지 확인")
+    void shouldHandleConcurrentChargesWithoutLock() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final long chargeAmount = 100L;
+        final int numberOfThreads = 8;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(new UserPointCommand(id, chargeAmount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        UserPoint userPoint = userPointRepository.findById(id).orElseThrow();
+        assertThat(userPoint.point()).isEqualTo(chargeAmount * numberOfThreads);
+        assertThat(userPoint.version()).isEqualTo(numberOfThreads); // 충전마다 version 1 증가
+    }
+
+    @Test
+    @DisplayName("낙관적 동시성 - 동시에 충전해도 포인트 내역이 잔고 변경 순서대로 기록되는지 확인")
+    void shouldAppendHistoryInUpdateOrder() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final int numberOfThreads = 8;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            final long chargeAmount = (i + 1) * 100L;
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(new UserPointCommand(id, chargeAmount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+        pointHistoryWriter.flush(id);
+
+        // then
+        List<PointHistory> histories = pointHistoryRepository.findAllByUserId(id);
+        assertThat(histories).hasSize(numberOfThreads);
+        assertThat(histories).extracting(PointHistory::updateMillis).isSorted();
+    }
+}
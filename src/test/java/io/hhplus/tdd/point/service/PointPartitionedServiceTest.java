@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointPartitionedServiceTest {
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointPartitionExecutor pointPartitionExecutor;
+    private PointServiceImpl pointService;
+
+    @BeforeEach
+    void setUp() {
+        // 파티션 스레드가 테이블 I/O 를 기다리지 않도록 PRIMITIVE 저장소를 쓴다. (TABLE 은 설정에서 거부)
+        userPointRepository = new PrimitiveUserPointRepository(new LongPointMap(4, 64, false));
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(true, 2, 1000, 1000, 10000));
+        pointHistoryWriter.start();
+
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(PointConcurrencyMode.PARTITIONED, false, 64, 10, 100, 10000);
+        pointPartitionExecutor = new PointPartitionExecutor(new PointPartitionProperties(2, 8, 10, 1000), properties);
+        pointPartitionExecutor.start();
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .partitionExecutor(pointPartitionExecutor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointPartitionExecutor.shutdown();
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("파티션 - 락 없이 동시에 충전해도 파티션 스레드가 하나씩 처리하여 합계와 히스토리가 정확한지 확인")
+    void shouldHandleConcurrentChargesInPartition() throws InterruptedException {
+        // given
+        final long id = 1L;
+        final long chargeAmount = 100L;
+        final int numberOfThreads = 8;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // when
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(new UserPointCommand(id, chargeAmount));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        UserPoint userPoint = userPointRepository.findById(id).orElseThrow();
+        assertThat(userPoint.point()).isEqualTo(chargeAmount * numberOfThreads);
+        assertThat(userPoint.version()).isEqualTo(numberOfThreads);
+        List<PointHistory> histories = pointService.getHistory(new UserIdCommand(id));
+        assertThat(histories).hasSize(numberOfThreads);
+    }
+
+    @Test
+    @DisplayName("파티션 - 파티션 스레드에서 발생한 잔고 부족 예외를 호출한 스레드에서 그대로 받음")
+    void shouldThrowBusinessExceptionFromPartition() {
+        // given
+        final long id = 2L;
+        pointService.chargePoint(new UserPointCommand(id, 100L));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(new UserPointCommand(id, 1000L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.INSUFFICIENT_BALANCE.getMsg());
+        assertThat(userPointRepository.findById(id).orElseThrow().point()).isEqualTo(100L);
+    }
+}
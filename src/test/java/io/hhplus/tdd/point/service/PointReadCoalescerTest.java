@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.impl.PointReadCoalescer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointReadCoalescerTest {
+
+    private final PointReadCoalescer coalescer = new PointReadCoalescer();
+
+    @Test
+    @DisplayName("잔고 조회 합치기 - 같은 유저를 동시에 조회하면 한 번만 조회하고 결과를 함께 받음")
+    void shouldShareInFlightRead() throws Exception {
+        // given
+        final long id = 1L;
+        final int numberOfThreads = 10;
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        // when
+        final List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> coalescer.read(id, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return new UserPoint(id, 1000L, System.currentTimeMillis());
+        }), executorService));
+        loading.await();
+        for (int i = 1; i < numberOfThreads; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> coalescer.read(id, () -> {
+                loads.incrementAndGet();
+                return new UserPoint(id, 2000L, System.currentTimeMillis());
+            }), executorService));
+        }
+        // 모든 요청이 진행 중인 조회에 합류할 때까지 기다린다.
+        while (coalescer.coalescedCount() < numberOfThreads - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(result.join().point()).isEqualTo(1000L));
+        assertThat(coalescer.executedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔고 조회 합치기 - 잔고 변경 후 시작한 조회는 변경 이전에 시작된 조회에 합류하지 않음")
+    void shouldNotJoinReadStartedBeforeInvalidate() throws Exception {
+        // given
+        final long id = 1L;
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<UserPoint> stale = CompletableFuture.supplyAsync(() -> coalescer.read(id, () -> {
+            loading.countDown();
+            await(release);
+            return new UserPoint(id, 1000L, System.currentTimeMillis());
+        }));
+        loading.await();
+
+        // when
+        coalescer.invalidate(id);
+        final UserPoint fresh = coalescer.read(id, () -> new UserPoint(id, 3000L, System.currentTimeMillis()));
+        release.countDown();
+
+        // then
+        assertThat(fresh.point()).isEqualTo(3000L);
+        assertThat(stale.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        assertThat(coalescer.coalescedCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.IdempotencyProperties;
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.executor.PointBatchExecutor;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyStore;
+import io.hhplus.tdd.point.lock.RefCountedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.impl.PointCommandCombiner;
+import io.hhplus.tdd.point.service.impl.PointReadCoalescer;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 테스트용 PointServiceImpl 조립기
+ * - 저장소만 정하면 나머지 협력 객체는 기본값(LOCK 모드, 히스토리 바로 저장, 파티션 없음)으로 만든다.
+ * - 테스트마다 필요한 것만 바꾸므로, PointServiceImpl 의 생성자가 바뀌어도 이 클래스만 고치면 된다.
+ */
+public class PointServiceFixture {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointConcurrencyProperties concurrencyProperties =
+            new PointConcurrencyProperties(PointConcurrencyMode.LOCK, false, 64, 10, 100, 10000);
+    private UserLockManager userLockManager = new RefCountedUserLockManager(true);
+    private PointBatchProperties batchProperties = new PointBatchProperties(10000, 4, 8);
+    private PointBatchExecutor pointBatchExecutor = new PointBatchExecutor(new SimpleAsyncTaskExecutor());
+    private PointPartitionExecutor pointPartitionExecutor;
+
+    private PointServiceFixture(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    public static PointServiceFixture of(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        return new PointServiceFixture(userPointRepository, pointHistoryRepository);
+    }
+
+    public PointServiceFixture historyWriter(PointHistoryWriter pointHistoryWriter) {
+        this.pointHistoryWriter = pointHistoryWriter;
+        return this;
+    }
+
+    public PointServiceFixture concurrency(PointConcurrencyProperties concurrencyProperties) {
+        this.concurrencyProperties = concurrencyProperties;
+        return this;
+    }
+
+    public PointServiceFixture lockManager(UserLockManager userLockManager) {
+        this.userLockManager = userLockManager;
+        return this;
+    }
+
+    public PointServiceFixture batch(PointBatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+        return this;
+    }
+
+    public PointServiceFixture batchExecutor(PointBatchExecutor pointBatchExecutor) {
+        this.pointBatchExecutor = pointBatchExecutor;
+        return this;
+    }
+
+    public PointServiceFixture partitionExecutor(PointPartitionExecutor pointPartitionExecutor) {
+        this.pointPartitionExecutor = pointPartitionExecutor;
+        return this;
+    }
+
+    public PointServiceImpl build() {
+        PointHistoryWriter writer = pointHistoryWriter != null ? pointHistoryWriter
+                : new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(false, 0, 0, 0, 0));
+        PointPartitionExecutor partitionExecutor = pointPartitionExecutor != null ? pointPartitionExecutor
+                : new PointPartitionExecutor(new PointPartitionProperties(0, 1024, 100, 1000), concurrencyProperties);
+        PointCommandCombiner combiner = new PointCommandCombiner(userPointRepository, writer, concurrencyProperties, userLockManager);
+        return new PointServiceImpl(userPointRepository, pointHistoryRepository, writer, combiner, concurrencyProperties,
+                userLockManager, batchProperties, pointBatchExecutor,
+                new PointIdempotencyStore(new IdempotencyProperties(1000, 60000)), new PointReadCoalescer(),
+                partitionExecutor);
+    }
+}
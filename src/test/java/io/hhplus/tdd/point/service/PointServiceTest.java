@@ -1,24 +1,35 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.command.PointHistoryQueryCommand;
 import io.hhplus.tdd.point.command.UserIdCommand;
 import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.PointBatchProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.enumtype.PointErrorCode;
 import io.hhplus.tdd.point.enumtype.TransactionType;
 import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.UserLockManager;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.impl.PointCommandCombiner;
+import io.hhplus.tdd.point.service.impl.PointReadCoalescer;
 import io.hhplus.tdd.point.service.impl.PointServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,6 +42,20 @@ class PointServiceTest {
     private UserPointRepository userPointRepository;
     @Mock
     private PointHistoryRepository pointHistoryRepository;
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
+    @Mock
+    private PointCommandCombiner pointCommandCombiner;
+    @Mock
+    private PointConcurrencyProperties concurrencyProperties;
+    @Mock
+    private UserLockManager userLockManager;
+    @Mock
+    private PointBatchProperties batchProperties;
+    @Mock
+    private AsyncTaskExecutor applicationTaskExecutor;
+    @Spy
+    private PointReadCoalescer pointReadCoalescer = new PointReadCoalescer();
 
     @InjectMocks
     private PointServiceImpl pointService;
@@ -89,6 +114,53 @@ class PointServiceTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("유저 포인트 히스토리 커서 조회 - 조건에 맞는 히스토리를 limit 만큼 반환하고 다음 커서 반환")
+    void shouldReturnHistoryPageWithNextCursor() {
+        // given
+        final long userId = 1L;
+        final PointHistoryQueryCommand command = new PointHistoryQueryCommand(userId, 1L, 2, null, null, TransactionType.CHARGE);
+
+        when(pointHistoryRepository.streamByUserId(userId, 1L)).thenReturn(Stream.of(
+                new PointHistory(2L, userId, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(3L, userId, 200L, TransactionType.USE, 2L),
+                new PointHistory(4L, userId, 300L, TransactionType.CHARGE, 3L),
+                new PointHistory(5L, userId, 400L, TransactionType.CHARGE, 4L)
+        ));
+
+        // when
+        final PointHistoryPage page = pointService.getHistory(command);
+
+        // then
+        assertThat(page.histories())
+                .extracting(PointHistory::id)
+                .containsExactly(2L, 4L);
+        assertThat(page.nextCursor()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("유저 포인트 히스토리 커서 조회 - 마지막 페이지이면 다음 커서 없음")
+    void shouldReturnLastHistoryPageWithoutNextCursor() {
+        // given
+        final long userId = 1L;
+        final PointHistoryQueryCommand command = new PointHistoryQueryCommand(userId, null, 2, 2L, 3L, null);
+
+        when(pointHistoryRepository.streamByUserId(userId, 0L)).thenReturn(Stream.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, userId, 200L, TransactionType.USE, 2L),
+                new PointHistory(3L, userId, 300L, TransactionType.CHARGE, 3L)
+        ));
+
+        // when
+        final PointHistoryPage page = pointService.getHistory(command);
+
+        // then
+        assertThat(page.histories())
+                .extracting(PointHistory::id)
+                .containsExactly(2L, 3L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("유저 포인트 히스토리 조회 - 히스토리 리스트가 있는 경우")
     void shouldReturnPointHistoryListWhenHistoryExists() {
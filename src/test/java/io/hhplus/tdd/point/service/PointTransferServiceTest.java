@@ -0,0 +1,249 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.command.PointTransferCommand;
+import io.hhplus.tdd.point.command.UserIdCommand;
+import io.hhplus.tdd.point.command.UserPointCommand;
+import io.hhplus.tdd.point.config.HistoryWriteBehindProperties;
+import io.hhplus.tdd.point.config.PointConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointPartitionProperties;
+import io.hhplus.tdd.point.dto.PointTransferResult;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.PointConcurrencyMode;
+import io.hhplus.tdd.point.enumtype.PointErrorCode;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.error.BusinessException;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.RefCountedUserLockManager;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.partition.PointPartitionExecutor;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.support.LongPointMap;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointTransferServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private UserPointRepository userPointRepository;
+    private MappedPointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointPartitionExecutor pointPartitionExecutor;
+    private PointServiceImpl pointService;
+
+    private void setUp(PointConcurrencyMode mode, UserLockManager userLockManager) {
+        userPointRepository = new PrimitiveUserPointRepository(new LongPointMap(4, 64, false));
+        pointHistoryRepository = new MappedPointHistoryRepository(directory, 1 << 20, false);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new HistoryWriteBehindProperties(true, 2, 1000, 1000, 10000));
+        pointHistoryWriter.start();
+
+        PointConcurrencyProperties properties = new PointConcurrencyProperties(mode, false, 64, 10, 10, 1000);
+        pointPartitionExecutor = new PointPartitionExecutor(new PointPartitionProperties(2, 1024, 10, 1000), properties);
+        pointPartitionExecutor.start();
+        pointService = PointServiceFixture.of(userPointRepository, pointHistoryRepository)
+                .historyWriter(pointHistoryWriter)
+                .concurrency(properties)
+                .lockManager(userLockManager)
+                .partitionExecutor(pointPartitionExecutor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointPartitionExecutor.shutdown();
+        pointHistoryWriter.shutdown();
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    @DisplayName("전송 - 보낸 유저는 차감, 받은 유저는 적립되고 TRANSFER_OUT / TRANSFER_IN 히스토리가 한 쌍 남음")
+    void shouldTransferPointWithPairedHistories() {
+        // given
+        setUp(PointConcurrencyMode.LOCK, new RefCountedUserLockManager(false));
+        pointService.chargePoint(new UserPointCommand(1L, 1000L));
+
+        // when
+        final PointTransferResult result = pointService.transferPoint(new PointTransferCommand(1L, 2L, 300L));
+
+        // then
+        assertThat(result.sender().point()).isEqualTo(700L);
+        assertThat(result.receiver().point()).isEqualTo(300L);
+        assertThat(pointService.getHistory(new UserIdCommand(1L)))
+                .extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(
+                        tuple(TransactionType.CHARGE, 1000L),
+                        tuple(TransactionType.TRANSFER_OUT, 300L));
+        assertThat(pointService.getHistory(new UserIdCommand(2L)))
+                .extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(tuple(TransactionType.TRANSFER_IN, 300L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PointConcurrencyMode.class, names = {"LOCK", "PARTITIONED"})
+    @DisplayName("전송 실패 - 받는 유저가 한도를 넘으면 어느 쪽 잔고도 바뀌지 않음")
+    void shouldNotChangeEitherBalanceWhenReceiverExceedsMaxBalance(PointConcurrencyMode mode) {
+        // given
+        setUp(mode, new RefCountedUserLockManager(false));
+        final long sender = 1L;
+        final long receiver = findReceiver(sender, true);
+        pointService.chargePoint(new UserPointCommand(sender, 1000L));
+        pointService.chargePoint(new UserPointCommand(receiver, 10000000L));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.transferPoint(new PointTransferCommand(sender, receiver, 1000L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.MAX_BALANCE_EXCEEDED.getMsg());
+        assertThat(pointService.getPoint(new UserIdCommand(sender)).point()).isEqualTo(1000L);
+        assertThat(pointService.getPoint(new UserIdCommand(receiver)).point()).isEqualTo(10000000L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PointConcurrencyMode.class, names = {"LOCK", "PARTITIONED"})
+    @DisplayName("동시성 테스트 - A→B 와 B→A 전송을 동시에 수천 건 실행해도 교착 상태 없이 잔고 합계가 유지됨")
+    void shouldTransferBothWaysConcurrentlyWithoutDeadlock(PointConcurrencyMode mode) throws InterruptedException {
+        // given
+        setUp(mode, new RefCountedUserLockManager(false));
+        final long a = 1L;
+        final long b = findReceiver(a, true);
+        final long initialPoint = 1000L;
+        pointService.chargePoint(new UserPointCommand(a, initialPoint));
+        pointService.chargePoint(new UserPointCommand(b, initialPoint));
+
+        // when
+        final AtomicInteger transferred = transferConcurrently(8, 4000, () -> {
+            boolean forward = ThreadLocalRandom.current().nextBoolean();
+            return new PointTransferCommand(forward ? a : b, forward ? b : a, 1L);
+        });
+
+        // then
+        final long pointA = pointService.getPoint(new UserIdCommand(a)).point();
+        final long pointB = pointService.getPoint(new UserIdCommand(b)).point();
+        assertThat(pointA + pointB).isEqualTo(initialPoint * 2);
+        assertThat(transferred.get()).isPositive();
+        assertThat(balanceFromHistories(a)).isEqualTo(pointA);
+        assertThat(balanceFromHistories(b)).isEqualTo(pointB);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 락을 나누어 쓰는 관리자에서 서로 엇갈린 유저끼리 전송해도 락 번호 순서로 잡아 교착 상태가 없음")
+    void shouldTransferWithoutDeadlockOnStripedLocks() throws InterruptedException {
+        // given
+        setUp(PointConcurrencyMode.LOCK, new StripedUserLockManager(3, false));
+        final long users = 16;
+        final long initialPoint = 1000L;
+        LongStream.rangeClosed(1, users).forEach(id -> pointService.chargePoint(new UserPointCommand(id, initialPoint)));
+
+        // when
+        transferConcurrently(8, 4000, () -> {
+            long sender = ThreadLocalRandom.current().nextLong(1, users + 1);
+            long receiver = (sender - 1 + ThreadLocalRandom.current().nextLong(1, users)) % users + 1;
+            return new PointTransferCommand(sender, receiver, 10L);
+        });
+
+        // then
+        final long total = LongStream.rangeClosed(1, users)
+                .map(id -> pointService.getPoint(new UserIdCommand(id)).point())
+                .sum();
+        assertThat(total).isEqualTo(initialPoint * users);
+    }
+
+    @Test
+    @DisplayName("전송 실패 - OPTIMISTIC 모드에서는 두 잔고를 함께 바꿀 수 없어 어느 쪽도 바꾸지 않고 거부함")
+    void shouldRejectTransferInOptimisticMode() {
+        // given
+        setUp(PointConcurrencyMode.OPTIMISTIC, new RefCountedUserLockManager(false));
+        pointService.chargePoint(new UserPointCommand(1L, 1000L));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.transferPoint(new PointTransferCommand(1L, 2L, 300L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.TRANSFER_NOT_SUPPORTED.getMsg());
+        assertThat(pointService.getPoint(new UserIdCommand(1L)).point()).isEqualTo(1000L);
+        assertThat(pointService.getPoint(new UserIdCommand(2L)).point()).isZero();
+        assertThat(balanceFromHistories(1L)).isEqualTo(1000L);
+        assertThat(pointService.getHistory(new UserIdCommand(2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 실패 - PARTITIONED 모드에서 다른 파티션끼리는 어느 쪽도 바꾸지 않고 거부함")
+    void shouldRejectCrossPartitionTransfer() {
+        // given
+        setUp(PointConcurrencyMode.PARTITIONED, new RefCountedUserLockManager(false));
+        final long sender = 1L;
+        final long receiver = findReceiver(sender, false);
+        pointService.chargePoint(new UserPointCommand(sender, 1000L));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.transferPoint(new PointTransferCommand(sender, receiver, 300L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.TRANSFER_NOT_SUPPORTED.getMsg());
+        assertThat(pointService.getPoint(new UserIdCommand(sender)).point()).isEqualTo(1000L);
+        assertThat(pointService.getPoint(new UserIdCommand(receiver)).point()).isZero();
+        assertThat(balanceFromHistories(sender)).isEqualTo(1000L);
+        assertThat(pointService.getHistory(new UserIdCommand(receiver))).isEmpty();
+    }
+
+    /**
+     * 보내는 유저와 같은(또는 다른) 파티션의 받는 유저를 찾는다. 파티션이 없는 모드에서는 바로 다음 유저를 고른다.
+     */
+    private long findReceiver(long sender, boolean samePartition) {
+        return LongStream.rangeClosed(sender + 1, sender + 100)
+                .filter(id -> pointPartitionExecutor.partitionCount() == 0
+                        || pointPartitionExecutor.samePartition(sender, id) == samePartition)
+                .findFirst().orElseThrow();
+    }
+
+    private AtomicInteger transferConcurrently(int numberOfThreads, int transfers,
+                                               Supplier<PointTransferCommand> commands) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(transfers);
+        AtomicInteger transferred = new AtomicInteger();
+        for (int i = 0; i < transfers; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.transferPoint(commands.get());
+                    transferred.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 잔고 부족 등은 정상적인 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        // 교착 상태가 생기면 제한 시간 안에 끝나지 않는다.
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        return transferred;
+    }
+
+    private long balanceFromHistories(long userId) {
+        List<PointHistory> histories = pointService.getHistory(new UserIdCommand(userId));
+        return histories.stream()
+                .mapToLong(history -> history.type().isCredit() ? history.amount() : -history.amount())
+                .sum();
+    }
+}
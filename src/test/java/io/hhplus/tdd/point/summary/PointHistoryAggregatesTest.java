@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.config.HistorySummaryProperties;
+import io.hhplus.tdd.point.dto.PointHistorySummary;
+import io.hhplus.tdd.point.dto.PointSummaryBucket;
+import io.hhplus.tdd.point.dto.PointTypeTotal;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.enumtype.SummaryGranularity;
+import io.hhplus.tdd.point.enumtype.TransactionType;
+import io.hhplus.tdd.point.repository.impl.AggregatingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryAggregatesTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("내역 요약 - 저장할 때마다 시간/일/월 구간별, 거래 종류별 합계와 건수가 쌓이고 기간에 걸친 구간만 조회")
+    void shouldAggregateByGranularityAndType() {
+        // given
+        final PointHistoryAggregates aggregates = new PointHistoryAggregates(new HistorySummaryProperties(ZONE, 0, 0));
+        aggregates.record(history(TransactionType.CHARGE, 1000L, at(2024, 1, 31, 23, 10)));
+        aggregates.record(history(TransactionType.USE, 300L, at(2024, 1, 31, 23, 50)));
+        aggregates.record(history(TransactionType.CHARGE, 500L, at(2024, 2, 1, 0, 5)));
+        aggregates.record(history(TransactionType.TRANSFER_OUT, 100L, at(2024, 2, 15, 12, 0)));
+
+        // when
+        final PointHistorySummary months = aggregates.summarize(1L, SummaryGranularity.MONTH, null, null);
+        final PointHistorySummary hours = aggregates.summarize(1L, SummaryGranularity.HOUR,
+                at(2024, 1, 31, 23, 30), at(2024, 2, 1, 0, 0));
+
+        // then
+        assertThat(months.buckets()).extracting(PointSummaryBucket::startMillis)
+                .containsExactly(at(2024, 1, 1, 0, 0), at(2024, 2, 1, 0, 0));
+        assertThat(months.buckets().get(0).totals()).isEqualTo(Map.of(
+                TransactionType.CHARGE, new PointTypeTotal(1000L, 1),
+                TransactionType.USE, new PointTypeTotal(300L, 1)));
+        assertThat(months.buckets().get(1).totals()).isEqualTo(Map.of(
+                TransactionType.CHARGE, new PointTypeTotal(500L, 1),
+                TransactionType.TRANSFER_OUT, new PointTypeTotal(100L, 1)));
+        assertThat(months.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeTotal(1500L, 2));
+
+        // 23:30 이 걸친 23시 구간부터 0시 구간까지
+        assertThat(hours.buckets()).extracting(PointSummaryBucket::startMillis)
+                .containsExactly(at(2024, 1, 31, 23, 0), at(2024, 2, 1, 0, 0));
+        assertThat(hours.totals()).isEqualTo(Map.of(
+                TransactionType.CHARGE, new PointTypeTotal(1500L, 2),
+                TransactionType.USE, new PointTypeTotal(300L, 1)));
+        assertThat(aggregates.summarize(2L, SummaryGranularity.DAY, null, null).buckets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내역 요약 - 보관 구간 수를 넘은 오래된 시간 구간은 제거되고, 재시작 시 저장소의 히스토리로 집계를 다시 만듦")
+    void shouldTrimOldBucketsAndRebuildFromRepository() throws Exception {
+        // given
+        final HistorySummaryProperties properties = new HistorySummaryProperties(ZONE, 2, 0);
+        final AggregatingPointHistoryRepository repository = new AggregatingPointHistoryRepository(
+                new MappedPointHistoryRepository(directory, 4096, false), new PointHistoryAggregates(properties));
+        for (int hour = 0; hour < 5; hour++) {
+            repository.save(history(TransactionType.CHARGE, 100L, at(2024, 3, 1, hour, 0)));
+        }
+        repository.close();
+
+        // when
+        final PointHistoryAggregates rebuilt = new PointHistoryAggregates(properties);
+        final AggregatingPointHistoryRepository reopened = new AggregatingPointHistoryRepository(
+                new MappedPointHistoryRepository(directory, 4096, false), rebuilt);
+
+        // then
+        assertThat(rebuilt.summarize(1L, SummaryGranularity.HOUR, null, null).buckets())
+                .extracting(PointSummaryBucket::startMillis)
+                .containsExactly(at(2024, 3, 1, 3, 0), at(2024, 3, 1, 4, 0));
+        assertThat(rebuilt.summarize(1L, SummaryGranularity.DAY, null, null).totals())
+                .isEqualTo(Map.of(TransactionType.CHARGE, new PointTypeTotal(500L, 5)));
+        reopened.close();
+    }
+
+    private static PointHistory history(TransactionType type, long amount, long millis) {
+        return PointHistory.makeEntity(1L, amount, type, millis);
+    }
+
+    private static long at(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(ZONE).toInstant().toEpochMilli();
+    }
+}